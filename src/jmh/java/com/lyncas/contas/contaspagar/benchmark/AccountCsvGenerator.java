@@ -0,0 +1,141 @@
+package com.lyncas.contas.contaspagar.benchmark;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Gera CSVs de contas no layout de importacao (data_vencimento,data_pagamento,valor,descricao,situacao),
+ * com a mesma forma de arquivo_dados_50.csv: vencimentos em uma janela de 60 dias, valores entre 100 e 1000,
+ * data de pagamento apenas nas contas PAGA. A mesma semente gera sempre o mesmo arquivo.
+ * <p>
+ * Uso: {@code AccountCsvGenerator <linhas> <arquivo>}, com -Dgenerator.seed, -Dgenerator.status-mix
+ * (ex.: PENDENTE:33,PAGA:34,CANCELADA:33) e -Dgenerator.descricoes (quantidade de descricoes distintas).
+ */
+public final class AccountCsvGenerator {
+
+    public static final String HEADER = "data_vencimento,data_pagamento,valor,descricao,situacao";
+
+    private static final String[] DESCRICOES = {"Compra", "Mensalidade", "Pagamento", "Parcela", "Serviço"};
+    private static final LocalDate FIRST_VENCIMENTO = LocalDate.of(2024, 12, 9);
+    private static final int VENCIMENTO_WINDOW_DAYS = 60;
+    private static final int MAX_PAYMENT_DELAY_DAYS = 10;
+    private static final int MIN_VALOR_CENTAVOS = 100_00;
+    private static final int MAX_VALOR_CENTAVOS = 1000_00;
+
+    private final long seed;
+    private final Map<AccountStatusEnum, Integer> statusMix;
+    private final int descricaoCardinality;
+
+    public AccountCsvGenerator(long seed, Map<AccountStatusEnum, Integer> statusMix, int descricaoCardinality) {
+        if (descricaoCardinality < 1) {
+            throw new IllegalArgumentException("Quantidade de descricoes deve ser positiva: " + descricaoCardinality);
+        }
+        if (statusMix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Distribuicao de situacoes sem peso: " + statusMix);
+        }
+        this.seed = seed;
+        this.statusMix = new EnumMap<>(statusMix);
+        this.descricaoCardinality = descricaoCardinality;
+    }
+
+    public static AccountCsvGenerator fromSystemProperties() {
+        return new AccountCsvGenerator(
+                Long.getLong("generator.seed", 42L),
+                parseStatusMix(System.getProperty("generator.status-mix", "PENDENTE:33,PAGA:34,CANCELADA:33")),
+                Integer.getInteger("generator.descricoes", DESCRICOES.length));
+    }
+
+    /**
+     * Nome que identifica o conteudo gerado, usado para reaproveitar arquivos ja gerados.
+     */
+    public String fileName(long rows) {
+        var mix = new StringBuilder();
+        statusMix.forEach((situacao, weight) -> mix.append(situacao.name().charAt(0)).append(weight));
+        return "contas-" + rows + "-s" + seed + "-" + mix + "-d" + descricaoCardinality + ".csv";
+    }
+
+    public void write(long rows, Path file) throws IOException {
+        var random = new SplittableRandom(seed);
+        AccountStatusEnum[] statusTable = statusTable();
+        long firstEpochDay = FIRST_VENCIMENTO.toEpochDay();
+        var line = new StringBuilder(64);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.write('\n');
+            for (long i = 0; i < rows; i++) {
+                AccountStatusEnum situacao = statusTable[random.nextInt(statusTable.length)];
+                LocalDate vencimento = LocalDate.ofEpochDay(firstEpochDay + random.nextInt(VENCIMENTO_WINDOW_DAYS));
+                int centavos = random.nextInt(MIN_VALOR_CENTAVOS, MAX_VALOR_CENTAVOS);
+                int descricao = random.nextInt(descricaoCardinality);
+
+                line.setLength(0);
+                line.append(vencimento).append(',');
+                if (situacao == AccountStatusEnum.PAGA) {
+                    line.append(vencimento.plusDays(random.nextInt(MAX_PAYMENT_DELAY_DAYS)));
+                }
+                line.append(',').append(centavos / 100).append('.');
+                if (centavos % 100 < 10) {
+                    line.append('0');
+                }
+                line.append(centavos % 100).append(',');
+                appendDescricao(line, descricao);
+                line.append(',').append(situacao.name()).append('\n');
+                writer.append(line);
+            }
+        }
+    }
+
+    // As primeiras descricoes sao as do arquivo de exemplo; acima disso recebem um sufixo numerico
+    private static void appendDescricao(StringBuilder line, int descricao) {
+        line.append(DESCRICOES[descricao % DESCRICOES.length]);
+        if (descricao >= DESCRICOES.length) {
+            line.append(' ').append(descricao / DESCRICOES.length);
+        }
+    }
+
+    private AccountStatusEnum[] statusTable() {
+        int total = statusMix.values().stream().mapToInt(Integer::intValue).sum();
+        var table = new AccountStatusEnum[total];
+        int position = 0;
+        for (var entry : statusMix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                table[position++] = entry.getKey();
+            }
+        }
+        return table;
+    }
+
+    static Map<AccountStatusEnum, Integer> parseStatusMix(String value) {
+        Map<AccountStatusEnum, Integer> statusMix = new EnumMap<>(AccountStatusEnum.class);
+        for (String part : value.split(",")) {
+            String[] weight = part.trim().split(":");
+            if (weight.length != 2) {
+                throw new IllegalArgumentException("Distribuicao de situacoes invalida (esperado SITUACAO:peso): " + value);
+            }
+            statusMix.put(AccountStatusEnum.fromValue(weight[0].trim()), Integer.parseInt(weight[1].trim()));
+        }
+        return statusMix;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: AccountCsvGenerator <linhas> <arquivo>");
+            System.exit(1);
+        }
+        long rows = Long.parseLong(args[0]);
+        Path file = Path.of(args[1]);
+        long start = System.nanoTime();
+        fromSystemProperties().write(rows, file);
+        System.out.printf("%d linhas gravadas em %s em %d ms%n", rows, file, (System.nanoTime() - start) / 1_000_000);
+    }
+}
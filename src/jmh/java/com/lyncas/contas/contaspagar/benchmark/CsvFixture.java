@@ -0,0 +1,41 @@
+package com.lyncas.contas.contaspagar.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Linhas de dados (sem o cabecalho) do CSV usado pelos benchmarks, por padrao arquivo_dados_10000.csv.
+ * Outro arquivo pode ser informado com -Djmh.csv=caminho.
+ */
+public final class CsvFixture {
+
+    private static final String CSV_PROPERTY = "jmh.csv";
+    private static final String DEFAULT_CSV = "arquivo_dados_10000.csv";
+
+    private CsvFixture() {}
+
+    public static String[] lines() {
+        Path file = Path.of(System.getProperty(CSV_PROPERTY, DEFAULT_CSV));
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            return lines.subList(1, lines.size()).toArray(String[]::new);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Nao foi possivel ler o CSV dos benchmarks: " + file.toAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * Campos de cada linha; as linhas do arquivo de exemplo nao tem descricao entre aspas.
+     */
+    public static String[][] fields(String[] lines) {
+        String[][] fields = new String[lines.length][];
+        for (int i = 0; i < lines.length; i++) {
+            fields[i] = lines[i].split(",", -1);
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,178 @@
+package com.lyncas.contas.contaspagar.benchmark;
+
+import com.lyncas.contas.contaspagar.ContasPagarApplication;
+import com.lyncas.contas.contaspagar.domain.enums.ImportEngineEnum;
+import com.lyncas.contas.contaspagar.service.AccountService;
+import com.lyncas.contas.contaspagar.service.ImportJob;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Mede a importacao ponta a ponta (AccountService.processImport) contra um PostgreSQL local, por exemplo o
+ * servico db do docker-compose, configurado pelas propriedades spring.datasource.* de sempre.
+ * <p>
+ * Para cada engine e tamanho, gera (ou reaproveita) um CSV com o {@link AccountCsvGenerator} e reporta
+ * linhas/s, pico de heap e espera por conexao no pool. Os resultados sao acrescentados a results.csv no
+ * diretorio do harness, para comparacao entre execucoes.
+ * <p>
+ * Propriedades: harness.rows (100000,1000000,10000000), harness.engines (COPY), harness.dir
+ * (target/import-harness) e harness.truncate (false; com true, esvazia a tabela conta antes de cada execucao).
+ */
+public final class ImportThroughputHarness {
+
+    private static final long SAMPLE_MILLIS = 10;
+    private static final String RESULTS_HEADER = "executado_em,engine,linhas,contas_gravadas,tempo_ms,linhas_por_segundo,"
+            + "pico_heap_mb,max_threads_aguardando_conexao,espera_pool_ms\n";
+
+    private ImportThroughputHarness() {}
+
+    public static void main(String[] args) throws Exception {
+        long[] sizes = Arrays.stream(System.getProperty("harness.rows", "100000,1000000,10000000").split(","))
+                .mapToLong(size -> Long.parseLong(size.trim()))
+                .toArray();
+        List<ImportEngineEnum> engines = Arrays.stream(System.getProperty("harness.engines", "COPY").split(","))
+                .map(engine -> ImportEngineEnum.valueOf(engine.trim().toUpperCase()))
+                .toList();
+        Path directory = Path.of(System.getProperty("harness.dir", "target/import-harness"));
+        boolean truncate = Boolean.getBoolean("harness.truncate");
+
+        Files.createDirectories(directory);
+        var generator = AccountCsvGenerator.fromSystemProperties();
+        for (long size : sizes) {
+            Path file = directory.resolve(generator.fileName(size));
+            if (!Files.exists(file)) {
+                System.out.printf("Gerando %s%n", file);
+                generator.write(size, file);
+            }
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ContasPagarApplication.class)
+                .properties("server.port=0")
+                .run(args)) {
+            var accountService = context.getBean(AccountService.class);
+            var jdbcTemplate = context.getBean(JdbcTemplate.class);
+            var transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            IntSupplier threadsAwaitingConnection = threadsAwaitingConnection(context.getBean(DataSource.class));
+
+            for (ImportEngineEnum engine : engines) {
+                for (long size : sizes) {
+                    if (truncate) {
+                        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute("TRUNCATE TABLE conta"));
+                    }
+                    Path file = directory.resolve(generator.fileName(size));
+                    Result result = run(accountService, file, engine, size, threadsAwaitingConnection);
+                    System.out.println(result.describe());
+                    appendResult(directory.resolve("results.csv"), result);
+                }
+            }
+        }
+    }
+
+    private static Result run(AccountService accountService, Path file, ImportEngineEnum engine, long size,
+                              IntSupplier threadsAwaitingConnection) throws IOException {
+        System.gc();
+        var sampler = new Sampler(ManagementFactory.getMemoryMXBean(), threadsAwaitingConnection);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.scheduleAtFixedRate(sampler, 0, SAMPLE_MILLIS, TimeUnit.MILLISECONDS);
+
+        var job = new ImportJob(file.getFileName().toString(), engine);
+        long start = System.nanoTime();
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            job.start();
+            accountService.processImport(inputStream, job);
+            job.complete();
+        } finally {
+            scheduler.shutdownNow();
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        return new Result(engine, size, job.getRowsPersisted(), elapsedMillis, sampler.peakHeapBytes,
+                sampler.maxThreadsAwaiting, sampler.samplesWithWaiters * SAMPLE_MILLIS);
+    }
+
+    private static void appendResult(Path results, Result result) throws IOException {
+        if (!Files.exists(results)) {
+            Files.writeString(results, RESULTS_HEADER, StandardCharsets.UTF_8);
+        }
+        Files.writeString(results, result.toCsv(), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    private static IntSupplier threadsAwaitingConnection(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return () -> hikari.getHikariPoolMXBean() != null ? hikari.getHikariPoolMXBean().getThreadsAwaitingConnection() : 0;
+        }
+        return () -> 0;
+    }
+
+    /**
+     * Amostra o heap usado e as threads aguardando conexao a cada {@link #SAMPLE_MILLIS} ms; o tempo de espera
+     * no pool e aproximado pela quantidade de amostras com alguma thread aguardando.
+     */
+    private static final class Sampler implements Runnable {
+
+        private final MemoryMXBean memory;
+        private final IntSupplier threadsAwaitingConnection;
+        private volatile long peakHeapBytes;
+        private volatile int maxThreadsAwaiting;
+        private volatile long samplesWithWaiters;
+
+        private Sampler(MemoryMXBean memory, IntSupplier threadsAwaitingConnection) {
+            this.memory = memory;
+            this.threadsAwaitingConnection = threadsAwaitingConnection;
+        }
+
+        @Override
+        public void run() {
+            peakHeapBytes = Math.max(peakHeapBytes, memory.getHeapMemoryUsage().getUsed());
+            int waiting = threadsAwaitingConnection.getAsInt();
+            maxThreadsAwaiting = Math.max(maxThreadsAwaiting, waiting);
+            if (waiting > 0) {
+                samplesWithWaiters++;
+            }
+        }
+    }
+
+    private record Result(ImportEngineEnum engine, long rows, long rowsPersisted, long elapsedMillis, long peakHeapBytes,
+                          int maxThreadsAwaiting, long poolWaitMillis) {
+
+        long rowsPerSecond() {
+            return rowsPersisted * 1000L / elapsedMillis;
+        }
+
+        long peakHeapMegabytes() {
+            return peakHeapBytes / (1024 * 1024);
+        }
+
+        String describe() {
+            return String.format("%-8s %,12d linhas: %,10d ms, %,10d linhas/s, pico de heap %,6d MB, ate %d threads aguardando conexao (%,d ms)",
+                    engine, rows, elapsedMillis, rowsPerSecond(), peakHeapMegabytes(), maxThreadsAwaiting, poolWaitMillis);
+        }
+
+        String toCsv() {
+            return String.join(",", LocalDateTime.now().toString(), engine.name(), String.valueOf(rows),
+                    String.valueOf(rowsPersisted), String.valueOf(elapsedMillis), String.valueOf(rowsPerSecond()),
+                    String.valueOf(peakHeapMegabytes()), String.valueOf(maxThreadsAwaiting), String.valueOf(poolWaitMillis)) + "\n";
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.lyncas.contas.contaspagar.resource.mapper;
+
+import com.lyncas.contas.contaspagar.benchmark.CsvFixture;
+import com.lyncas.contas.contaspagar.domain.model.Account;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import com.lyncas.contas.contaspagar.resource.mapper.v1.AccountMapper;
+import com.lyncas.contas.contaspagar.service.csv.AccountCsvParser;
+import com.lyncas.contas.contaspagar.service.csv.AccountCsvRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AccountMapperBenchmark {
+
+    private final AccountMapper accountMapper = new AccountMapper();
+    private Account[] accounts;
+    private AccountDTO[] accountDTOs;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        String[] lines = CsvFixture.lines();
+        accounts = new Account[lines.length];
+        accountDTOs = new AccountDTO[lines.length];
+        var row = new AccountCsvRow();
+        for (int i = 0; i < lines.length; i++) {
+            AccountCsvParser.parse(lines[i], row);
+            accounts[i] = new Account.Builder()
+                    .id((long) i + 1)
+                    .dataVencimento(row.getDataVencimento())
+                    .dataPagamento(row.getDataPagamento())
+                    .valor(row.getValor())
+                    .descricao(row.getDescricao())
+                    .situacao(row.getSituacao())
+                    .build();
+            accountDTOs[i] = accountMapper.toDTO(accounts[i]);
+        }
+    }
+
+    @Benchmark
+    public Account toEntity() {
+        return accountMapper.toEntity(accountDTOs[nextIndex()]);
+    }
+
+    @Benchmark
+    public AccountDTO toDTO() {
+        return accountMapper.toDTO(accounts[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = next + 1 == accounts.length ? 0 : next + 1;
+        return index;
+    }
+}
@@ -0,0 +1,90 @@
+package com.lyncas.contas.contaspagar.service.csv;
+
+import com.lyncas.contas.contaspagar.benchmark.CsvFixture;
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodificacao de cada campo isolada: data, valor e situacao, no caminho generico da JDK e no
+ * especializado do {@link AccountCsvParser}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AccountCsvFieldBenchmark {
+
+    private String[][] fields;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        fields = CsvFixture.fields(CsvFixture.lines());
+    }
+
+    @Benchmark
+    public LocalDate localDateParse() {
+        return LocalDate.parse(nextFields()[0]);
+    }
+
+    @Benchmark
+    public long specializedDateDecode() {
+        String date = nextFields()[0];
+        return AccountCsvParser.parseDate(date, 0, date.length(), "data_vencimento");
+    }
+
+    @Benchmark
+    public LocalDate specializedDateToLocalDate() {
+        String date = nextFields()[0];
+        return LocalDate.ofEpochDay(AccountCsvParser.parseDate(date, 0, date.length(), "data_vencimento"));
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalFromString() {
+        return new BigDecimal(nextFields()[2]);
+    }
+
+    @Benchmark
+    public long specializedValorDecode() {
+        String valor = nextFields()[2];
+        return AccountCsvParser.parseValor(valor, 0, valor.length());
+    }
+
+    @Benchmark
+    public BigDecimal specializedValorToBigDecimal() {
+        String valor = nextFields()[2];
+        return BigDecimal.valueOf(AccountCsvParser.parseValor(valor, 0, valor.length()), 2);
+    }
+
+    @Benchmark
+    public AccountStatusEnum statusFromValue() {
+        return AccountStatusEnum.fromValue(nextFields()[4]);
+    }
+
+    @Benchmark
+    public AccountStatusEnum specializedStatusDecode() {
+        String situacao = nextFields()[4];
+        return AccountCsvParser.parseSituacao(situacao, 0, situacao.length());
+    }
+
+    private String[] nextFields() {
+        String[] row = fields[next];
+        next = next + 1 == fields.length ? 0 : next + 1;
+        return row;
+    }
+}
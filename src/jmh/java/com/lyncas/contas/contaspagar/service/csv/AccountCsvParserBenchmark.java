@@ -0,0 +1,71 @@
+package com.lyncas.contas.contaspagar.service.csv;
+
+import com.lyncas.contas.contaspagar.benchmark.CsvFixture;
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.domain.model.Account;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por linha do CSV de importacao: o parser especializado contra a decodificacao generica
+ * (split, LocalDate.parse, new BigDecimal e AccountStatusEnum.fromValue).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AccountCsvParserBenchmark {
+
+    private String[] lines;
+    private int next;
+    private final AccountCsvRow row = new AccountCsvRow();
+
+    @Setup
+    public void setUp() {
+        lines = CsvFixture.lines();
+    }
+
+    @Benchmark
+    public AccountCsvRow parseLine() {
+        AccountCsvParser.parse(nextLine(), row);
+        return row;
+    }
+
+    @Benchmark
+    public Account parseLineToAccount() {
+        AccountCsvParser.parse(nextLine(), row);
+        return row.toAccount();
+    }
+
+    @Benchmark
+    public Account splitLineToAccount() {
+        String[] fields = nextLine().split(",", -1);
+        return new Account.Builder()
+                .dataVencimento(LocalDate.parse(fields[0]))
+                .dataPagamento(fields[1].isEmpty() ? null : LocalDate.parse(fields[1]))
+                .valor(new BigDecimal(fields[2]))
+                .descricao(fields[3])
+                .situacao(AccountStatusEnum.fromValue(fields[4]))
+                .build();
+    }
+
+    private String nextLine() {
+        String line = lines[next];
+        next = next + 1 == lines.length ? 0 : next + 1;
+        return line;
+    }
+}
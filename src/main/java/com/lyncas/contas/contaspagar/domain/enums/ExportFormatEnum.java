@@ -0,0 +1,6 @@
+package com.lyncas.contas.contaspagar.domain.enums;
+
+public enum ExportFormatEnum {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,10 @@
+package com.lyncas.contas.contaspagar.domain.enums;
+
+/**
+ * Unidade dos checkpoints de uma importacao: faixas de linhas do CSV lido em sequencia, ou faixas de bytes
+ * de tamanho fixo de um arquivo do servidor mapeado em memoria.
+ */
+public enum ImportCheckpointTypeEnum {
+    LINHAS,
+    FAIXAS_BYTES
+}
@@ -0,0 +1,7 @@
+package com.lyncas.contas.contaspagar.domain.enums;
+
+public enum ImportEngineEnum {
+    JPA,
+    COPY,
+    STAGING
+}
@@ -0,0 +1,8 @@
+package com.lyncas.contas.contaspagar.domain.enums;
+
+public enum ImportJobStatusEnum {
+    AGUARDANDO,
+    PROCESSANDO,
+    CONCLUIDA,
+    FALHOU
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -25,9 +26,11 @@ import java.util.Objects;
 @EntityListeners(AuditingEntityListener.class)
 public class Account {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(columnDefinition = "serial")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "conta_id_seq")
+    @SequenceGenerator(name = "conta_id_seq", sequenceName = "conta_id_seq", allocationSize = Account.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name="data_vencimento", nullable = false)
@@ -0,0 +1,30 @@
+package com.lyncas.contas.contaspagar.domain.model;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+
+/**
+ * Chave natural de uma conta usada na deduplicacao da importacao: vencimento, valor, descricao e situacao.
+ */
+public record AccountNaturalKey(long dataVencimentoEpochDay, long valorCentavos, String descricao, AccountStatusEnum situacao) {
+
+    public long hash64() {
+        return hash64(dataVencimentoEpochDay, valorCentavos, descricao.hashCode(), situacao);
+    }
+
+    /**
+     * Hash de 64 bits da chave. Recebe o hashCode da descricao para que a importacao calcule o mesmo valor
+     * direto da linha do CSV, sem criar a String.
+     */
+    public static long hash64(long dataVencimentoEpochDay, long valorCentavos, int descricaoHashCode, AccountStatusEnum situacao) {
+        long hash = mix(dataVencimentoEpochDay);
+        hash = mix(hash ^ valorCentavos);
+        hash = mix(hash ^ descricaoHashCode);
+        return mix(hash ^ situacao.ordinal());
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
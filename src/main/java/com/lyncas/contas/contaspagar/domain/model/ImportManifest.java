@@ -0,0 +1,139 @@
+package com.lyncas.contas.contaspagar.domain.model;
+
+import com.lyncas.contas.contaspagar.domain.enums.ImportCheckpointTypeEnum;
+import com.lyncas.contas.contaspagar.domain.enums.ImportJobStatusEnum;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Manifesto de uma importacao, identificada pelo hash SHA-256 do arquivo. Os chunks ja gravados
+ * ficam em importacao_chunk e permitem retomar um arquivo reenviado a partir do que falta; checkpointType diz
+ * se os chunks sao faixas de linhas ou de bytes, e chunkSize e medido nessa unidade.
+ */
+@Entity
+@Table(name = "importacao")
+@EntityListeners(AuditingEntityListener.class)
+public class ImportManifest {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "hash_arquivo", nullable = false, unique = true, length = 64)
+    private String fileHash;
+
+    @Column(name = "nome_arquivo")
+    private String fileName;
+
+    @Column(name = "tipo_checkpoint", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ImportCheckpointTypeEnum checkpointType;
+
+    @Column(name = "tamanho_chunk", nullable = false)
+    private int chunkSize;
+
+    @Column(name = "situacao", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ImportJobStatusEnum situacao;
+
+    @Column(name = "total_linhas")
+    private Long totalLines;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public ImportManifest() {}
+
+    public ImportManifest(String fileHash, String fileName, ImportCheckpointTypeEnum checkpointType, int chunkSize) {
+        this.fileHash = fileHash;
+        this.fileName = fileName;
+        this.checkpointType = checkpointType;
+        this.chunkSize = chunkSize;
+        this.situacao = ImportJobStatusEnum.PROCESSANDO;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getFileHash() {
+        return fileHash;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public ImportCheckpointTypeEnum getCheckpointType() {
+        return checkpointType;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Troca a unidade dos checkpoints; so e valido enquanto nenhum chunk foi gravado.
+     */
+    public void restart(ImportCheckpointTypeEnum checkpointType, int chunkSize) {
+        this.checkpointType = checkpointType;
+        this.chunkSize = chunkSize;
+    }
+
+    public ImportJobStatusEnum getSituacao() {
+        return situacao;
+    }
+
+    public void setSituacao(ImportJobStatusEnum situacao) {
+        this.situacao = situacao;
+    }
+
+    public Long getTotalLines() {
+        return totalLines;
+    }
+
+    public void setTotalLines(Long totalLines) {
+        this.totalLines = totalLines;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ImportManifest manifest = (ImportManifest) o;
+
+        return Objects.equals(id, manifest.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id != null ? id.hashCode() : 0;
+    }
+}
@@ -0,0 +1,79 @@
+package com.lyncas.contas.contaspagar.domain.repository;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountAnalyticsGroupDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Totais por situacao, mes de vencimento e mes de pagamento, e por todas as combinacoes dessas dimensoes, em uma
+ * unica leitura das contas do periodo: GROUP BY CUBE e a forma curta dos GROUPING SETS com as oito combinacoes.
+ */
+@Repository
+public class AccountAnalyticsRepository {
+
+    public static final String SITUACAO = "situacao";
+    public static final String MES_VENCIMENTO = "mesVencimento";
+    public static final String MES_PAGAMENTO = "mesPagamento";
+
+    // GROUPING(...) tem um bit por dimensao, ligado quando a dimensao foi agregada: situacao 4, vencimento 2, pagamento 1
+    private static final String ANALYTICS_SQL = """
+            SELECT situacao, mes_vencimento, mes_pagamento,
+                   GROUPING(situacao, mes_vencimento, mes_pagamento) AS agregadas,
+                   count(*) AS quantidade, SUM(valor) AS valor_total
+            FROM (
+                SELECT situacao, date_trunc('month', data_vencimento)::date AS mes_vencimento,
+                       date_trunc('month', data_pagamento)::date AS mes_pagamento, valor
+                FROM conta
+                WHERE data_vencimento BETWEEN ? AND ?
+            ) c
+            GROUP BY CUBE (situacao, mes_vencimento, mes_pagamento)
+            ORDER BY agregadas DESC, situacao, mes_vencimento, mes_pagamento NULLS FIRST
+            """;
+
+    private static final RowMapper<AccountAnalyticsGroupDTO> GROUP_MAPPER = (rs, rowNum) -> {
+        int aggregated = rs.getInt("agregadas");
+        List<String> dimensions = new ArrayList<>(3);
+        if ((aggregated & 4) == 0) {
+            dimensions.add(SITUACAO);
+        }
+        if ((aggregated & 2) == 0) {
+            dimensions.add(MES_VENCIMENTO);
+        }
+        if ((aggregated & 1) == 0) {
+            dimensions.add(MES_PAGAMENTO);
+        }
+        String situacao = rs.getString("situacao");
+        return new AccountAnalyticsGroupDTO.Builder()
+                .dimensoes(dimensions)
+                .situacao(situacao != null ? AccountStatusEnum.valueOf(situacao) : null)
+                .mesVencimento(yearMonth(rs.getObject("mes_vencimento", LocalDate.class)))
+                .mesPagamento(yearMonth(rs.getObject("mes_pagamento", LocalDate.class)))
+                .quantidade(rs.getLong("quantidade"))
+                .valorTotal(rs.getBigDecimal("valor_total"))
+                .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountAnalyticsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional(readOnly = true)
+    public List<AccountAnalyticsGroupDTO> groupByDataVencimento(LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(ANALYTICS_SQL, GROUP_MAPPER, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    private static YearMonth yearMonth(LocalDate date) {
+        return date != null ? YearMonth.from(date) : null;
+    }
+}
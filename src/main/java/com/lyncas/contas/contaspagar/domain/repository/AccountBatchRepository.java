@@ -0,0 +1,84 @@
+package com.lyncas.contas.contaspagar.domain.repository;
+
+import com.lyncas.contas.contaspagar.domain.model.Account;
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Escrita em lote de contas sem passar pelo contexto de persistencia do JPA.
+ * Os ids sao reservados pelo {@link AccountIdAllocator}.
+ */
+@Repository
+public class AccountBatchRepository {
+
+    public static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO conta (id, data_vencimento, data_pagamento, valor, descricao, situacao, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountIdAllocator accountIdAllocator;
+
+    public AccountBatchRepository(JdbcTemplate jdbcTemplate, AccountIdAllocator accountIdAllocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.accountIdAllocator = accountIdAllocator;
+    }
+
+    @Transactional
+    public int insertAll(List<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return 0;
+        }
+        return insertAll(accounts, accountIdAllocator.reserve(accounts.size()));
+    }
+
+    /**
+     * Grava as contas com ids ja reservados no {@link AccountIdAllocator}, na mesma ordem, para quem precisa
+     * conhecer o id de cada conta gravada.
+     */
+    @Transactional
+    public int insertAll(List<Account> accounts, long[] ids) {
+        var now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int start = 0; start < accounts.size(); start += BATCH_SIZE) {
+            int offset = start;
+            var batch = accounts.subList(start, Math.min(start + BATCH_SIZE, accounts.size()));
+            jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    var account = batch.get(i);
+                    ps.setLong(1, ids[offset + i]);
+                    ps.setDate(2, Date.valueOf(account.getDataVencimento()));
+                    if (account.getDataPagamento() != null) {
+                        ps.setDate(3, Date.valueOf(account.getDataPagamento()));
+                    } else {
+                        ps.setNull(3, Types.DATE);
+                    }
+                    ps.setBigDecimal(4, account.getValor());
+                    ps.setString(5, account.getDescricao());
+                    ps.setString(6, account.getSituacao().name());
+                    ps.setTimestamp(7, now);
+                    ps.setTimestamp(8, now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch.size();
+                }
+            });
+        }
+        return accounts.size();
+    }
+}
@@ -0,0 +1,161 @@
+package com.lyncas.contas.contaspagar.domain.repository;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Operacoes sobre varias contas por id em um unico comando: a lista de ids vai como um parametro array
+ * (id = ANY(?)), entao o SQL e o plano sao os mesmos para qualquer quantidade de ids.
+ */
+@Repository
+public class AccountBulkRepository {
+
+    public static final int UPDATE_CHUNK_SIZE = 1000;
+
+    private static final String FIND_BY_IDS_SQL = "SELECT " + AccountDTORowMapper.COLUMNS
+            + " FROM conta WHERE id = ANY(?) ORDER BY id";
+
+    // Contas marcadas como PAGA recebem a data informada; sem ela, mantem a sua, como em AccountService.changeStatus
+    private static final String DATA_PAGAMENTO_PAGA = "COALESCE(?, c.data_pagamento)";
+    private static final String DATA_PAGAMENTO_MANTIDA = "c.data_pagamento";
+
+    // O CTE trava as linhas em ordem de id e guarda a data de pagamento anterior, necessaria para invalidar o cache
+    private static final String UPDATE_SQL = """
+            WITH alvo AS (
+                SELECT c.id, c.data_pagamento FROM conta c
+                WHERE %1$s
+                ORDER BY c.id
+                %2$s
+                FOR UPDATE
+            )
+            UPDATE conta c SET situacao = ?, data_pagamento = %3$s, updated_at = ?
+            FROM alvo
+            WHERE c.id = alvo.id
+            RETURNING c.id, c.data_vencimento, alvo.data_pagamento AS data_pagamento_anterior, c.data_pagamento
+            """;
+
+    // Ignora as contas que ja estao na situacao e data de pagamento finais
+    private static final String BY_IDS = "c.id = ANY(?) AND (c.situacao <> ? OR c.data_pagamento IS DISTINCT FROM %s)";
+
+    private static final String BY_FILTER = "c.data_vencimento BETWEEN ? AND ? AND c.situacao = ? AND c.id > ?";
+
+    private static final String FIRST_ID_BY_FILTER_SQL =
+            "SELECT min(id) FROM conta WHERE data_vencimento BETWEEN ? AND ? AND situacao = ?";
+
+    private static final RowMapper<StatusChange> STATUS_CHANGE_MAPPER = (rs, rowNum) -> new StatusChange(
+            rs.getLong("id"),
+            rs.getObject("data_vencimento", LocalDate.class),
+            rs.getObject("data_pagamento_anterior", LocalDate.class),
+            rs.getObject("data_pagamento", LocalDate.class));
+
+    /**
+     * Conta alterada por uma troca de situacao em lote, com as datas que afetam os periodos em cache.
+     */
+    public record StatusChange(long id, LocalDate dataVencimento, LocalDate dataPagamentoAnterior, LocalDate dataPagamento) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional(readOnly = true)
+    public List<AccountDTO> findAllByIds(Long[] ids) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_BY_IDS_SQL);
+            Array array = connection.createArrayOf("bigint", ids);
+            statement.setArray(1, array);
+            return statement;
+        }, AccountDTORowMapper.INSTANCE);
+    }
+
+    /**
+     * Altera a situacao das contas informadas em um unico UPDATE, pulando as que nao mudariam.
+     *
+     * @return as contas alteradas
+     */
+    @Transactional
+    public List<StatusChange> updateStatusByIds(Long[] ids, AccountStatusEnum situacao, LocalDate dataPagamento) {
+        boolean paga = situacao == AccountStatusEnum.PAGA;
+        String novaDataPagamento = paga ? DATA_PAGAMENTO_PAGA : DATA_PAGAMENTO_MANTIDA;
+        String sql = UPDATE_SQL.formatted(BY_IDS.formatted(novaDataPagamento), "", novaDataPagamento);
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            int index = 1;
+            statement.setArray(index++, connection.createArrayOf("bigint", ids));
+            statement.setString(index++, situacao.name());
+            if (paga) {
+                setDate(statement, index++, dataPagamento);
+            }
+            setUpdate(statement, index, situacao, paga, dataPagamento);
+            return statement;
+        }, STATUS_CHANGE_MAPPER);
+    }
+
+    /**
+     * Altera a situacao de ate limit contas com vencimento no periodo, na situacao atual informada e com id maior
+     * que afterId, em um unico UPDATE. Chamado em sequencia, avancando afterId, percorre o periodo em blocos.
+     *
+     * @return as contas alteradas
+     */
+    @Transactional
+    public List<StatusChange> updateStatusByFilter(LocalDate startDate, LocalDate endDate, AccountStatusEnum situacaoAtual,
+                                                   long afterId, int limit, AccountStatusEnum situacao,
+                                                   LocalDate dataPagamento) {
+        boolean paga = situacao == AccountStatusEnum.PAGA;
+        String sql = UPDATE_SQL.formatted(BY_FILTER, "LIMIT ?", paga ? DATA_PAGAMENTO_PAGA : DATA_PAGAMENTO_MANTIDA);
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            int index = 1;
+            statement.setDate(index++, Date.valueOf(startDate));
+            statement.setDate(index++, Date.valueOf(endDate));
+            statement.setString(index++, situacaoAtual.name());
+            statement.setLong(index++, afterId);
+            statement.setInt(index++, limit);
+            setUpdate(statement, index, situacao, paga, dataPagamento);
+            return statement;
+        }, STATUS_CHANGE_MAPPER);
+    }
+
+    /**
+     * Menor id entre as contas com vencimento no periodo que ainda estao na situacao informada.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findFirstIdByFilter(LocalDate startDate, LocalDate endDate, AccountStatusEnum situacao) {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(FIRST_ID_BY_FILTER_SQL, Long.class,
+                Date.valueOf(startDate), Date.valueOf(endDate), situacao.name()));
+    }
+
+    private static void setUpdate(PreparedStatement statement, int index, AccountStatusEnum situacao, boolean paga,
+                                  LocalDate dataPagamento) throws SQLException {
+        statement.setString(index++, situacao.name());
+        if (paga) {
+            setDate(statement, index++, dataPagamento);
+        }
+        statement.setTimestamp(index, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static void setDate(PreparedStatement statement, int index, LocalDate date) throws SQLException {
+        if (date != null) {
+            statement.setDate(index, Date.valueOf(date));
+        } else {
+            statement.setNull(index, Types.DATE);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.lyncas.contas.contaspagar.domain.repository;
+
+import jakarta.transaction.Transactional;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+
+/**
+ * Carga de contas via COPY do PostgreSQL. Recebe as linhas ja validadas e codificadas em CSV,
+ * na ordem das colunas de {@link #COPY_COLUMNS}.
+ */
+@Repository
+public class AccountCopyRepository {
+
+    public static final String COPY_COLUMNS = "id, data_vencimento, data_pagamento, valor, descricao, situacao, created_at, updated_at";
+
+    private static final String COPY_SQL = "COPY conta (" + COPY_COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountCopyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public long copyIn(CharSequence csvRows) {
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class)
+                        .getCopyAPI()
+                        .copyIn(COPY_SQL, new StringReader(csvRows.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return copied != null ? copied : 0;
+    }
+}
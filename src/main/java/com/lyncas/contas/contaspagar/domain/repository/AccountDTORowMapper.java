@@ -0,0 +1,35 @@
+package com.lyncas.contas.contaspagar.domain.repository;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Monta um {@link AccountDTO} direto de uma linha de conta lida via JDBC, com todas as colunas pelo nome.
+ */
+final class AccountDTORowMapper implements RowMapper<AccountDTO> {
+
+    static final AccountDTORowMapper INSTANCE = new AccountDTORowMapper();
+
+    static final String COLUMNS = "id, data_vencimento, data_pagamento, valor, descricao, situacao, created_at, updated_at";
+
+    private AccountDTORowMapper() {}
+
+    @Override
+    public AccountDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new AccountDTO(
+                rs.getLong("id"),
+                rs.getObject("data_vencimento", LocalDate.class),
+                rs.getObject("data_pagamento", LocalDate.class),
+                rs.getBigDecimal("valor"),
+                rs.getString("descricao"),
+                AccountStatusEnum.valueOf(rs.getString("situacao")),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class));
+    }
+}
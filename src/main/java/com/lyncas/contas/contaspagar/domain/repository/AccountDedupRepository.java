@@ -0,0 +1,112 @@
+package com.lyncas.contas.contaspagar.domain.repository;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.domain.model.AccountNaturalKey;
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Consultas da deduplicacao da importacao pela chave natural da conta.
+ */
+@Repository
+public class AccountDedupRepository {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private static final String KEYS_BY_DATA_VENCIMENTO_SQL = """
+            SELECT data_vencimento, valor, descricao, situacao
+            FROM conta
+            WHERE data_vencimento BETWEEN ? AND ?
+              AND created_at < ?
+            """;
+
+    private static final String EXISTING_KEYS_SQL = """
+            SELECT DISTINCT c.data_vencimento, c.valor, c.descricao, c.situacao
+            FROM conta c
+            JOIN unnest(?::date[], ?::numeric[], ?::varchar[], ?::varchar[]) AS k(data_vencimento, valor, descricao, situacao)
+              ON c.data_vencimento = k.data_vencimento
+             AND c.situacao = k.situacao
+             AND c.descricao = k.descricao
+             AND c.valor = k.valor
+            WHERE c.created_at < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountDedupRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Percorre, em uma unica leitura com cursor, as chaves das contas com vencimento no intervalo.
+     */
+    @Transactional
+    public long forEachKey(LocalDate startDate, LocalDate endDate, LocalDateTime createdBefore, Consumer<AccountNaturalKey> consumer) {
+        long[] count = {0};
+        jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(KEYS_BY_DATA_VENCIMENTO_SQL);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setDate(1, Date.valueOf(startDate));
+            ps.setDate(2, Date.valueOf(endDate));
+            ps.setTimestamp(3, Timestamp.valueOf(createdBefore));
+            return ps;
+        }, rs -> {
+            consumer.accept(toKey(rs));
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    /**
+     * Retorna, entre as chaves informadas, as que ja existem em conta, em uma unica consulta.
+     */
+    @Transactional
+    public Set<AccountNaturalKey> findExisting(List<AccountNaturalKey> keys, LocalDateTime createdBefore) {
+        var datasVencimento = new Date[keys.size()];
+        var valores = new BigDecimal[keys.size()];
+        var descricoes = new String[keys.size()];
+        var situacoes = new String[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            var key = keys.get(i);
+            datasVencimento[i] = Date.valueOf(LocalDate.ofEpochDay(key.dataVencimentoEpochDay()));
+            valores[i] = BigDecimal.valueOf(key.valorCentavos(), 2);
+            descricoes[i] = key.descricao();
+            situacoes[i] = key.situacao().name();
+        }
+
+        Set<AccountNaturalKey> existing = new HashSet<>();
+        jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(EXISTING_KEYS_SQL);
+            ps.setArray(1, connection.createArrayOf("date", datasVencimento));
+            ps.setArray(2, connection.createArrayOf("numeric", valores));
+            ps.setArray(3, connection.createArrayOf("varchar", descricoes));
+            ps.setArray(4, connection.createArrayOf("varchar", situacoes));
+            ps.setTimestamp(5, Timestamp.valueOf(createdBefore));
+            return ps;
+        }, rs -> {
+            existing.add(toKey(rs));
+        });
+        return existing;
+    }
+
+    private AccountNaturalKey toKey(ResultSet rs) throws SQLException {
+        return new AccountNaturalKey(
+                rs.getDate(1).toLocalDate().toEpochDay(),
+                rs.getBigDecimal(2).setScale(2).unscaledValue().longValueExact(),
+                rs.getString(3),
+                AccountStatusEnum.valueOf(rs.getString(4)));
+    }
+}
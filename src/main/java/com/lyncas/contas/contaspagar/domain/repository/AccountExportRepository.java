@@ -0,0 +1,82 @@
+package com.lyncas.contas.contaspagar.domain.repository;
+
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Leitura sequencial de contas por periodo de vencimento para exportacao. Nenhum dos dois caminhos materializa
+ * o resultado: o CSV sai do COPY direto para o stream de saida e as demais linhas chegam por um cursor do
+ * servidor, de FETCH_SIZE em FETCH_SIZE. A conexao fica presa enquanto o cliente consome a exportacao.
+ */
+@Repository
+public class AccountExportRepository {
+
+    public static final int FETCH_SIZE = 5000;
+
+    // Mesmas colunas e ordem do CSV aceito pela importacao; COPY nao aceita parametros, as datas vem de LocalDate
+    private static final String COPY_OUT_SQL = """
+            COPY (
+                SELECT data_vencimento, data_pagamento, valor, descricao, situacao
+                FROM conta
+                WHERE data_vencimento BETWEEN '%s' AND '%s'
+            ) TO STDOUT WITH (FORMAT csv, HEADER)
+            """;
+
+    private static final String SELECT_SQL = "SELECT " + AccountDTORowMapper.COLUMNS
+            + " FROM conta WHERE data_vencimento BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountExportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Escreve as contas do periodo no formato CSV da importacao, com cabecalho.
+     *
+     * @return quantidade de contas exportadas
+     */
+    @Transactional(readOnly = true)
+    public long copyOutCsv(LocalDate startDate, LocalDate endDate, OutputStream out) {
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class)
+                        .getCopyAPI()
+                        .copyOut(COPY_OUT_SQL.formatted(startDate, endDate), out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return copied != null ? copied : 0;
+    }
+
+    /**
+     * Entrega as contas do periodo uma a uma, lidas por cursor; cada DTO pode ser descartado apos o uso.
+     *
+     * @return quantidade de contas lidas
+     */
+    @Transactional(readOnly = true)
+    public long forEachByDataVencimento(LocalDate startDate, LocalDate endDate, Consumer<AccountDTO> consumer) {
+        long[] rows = new long[1];
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_SQL);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setObject(1, startDate);
+            statement.setObject(2, endDate);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(AccountDTORowMapper.INSTANCE.mapRow(rs, (int) rows[0]++)));
+        return rows[0];
+    }
+}
@@ -0,0 +1,39 @@
+package com.lyncas.contas.contaspagar.domain.repository;
+
+import com.lyncas.contas.contaspagar.domain.model.Account;
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Reserva ids da sequence conta_id_seq em blocos de {@link Account#ID_ALLOCATION_SIZE},
+ * seguindo a mesma estrategia pooled do Hibernate para que as escritas fora do JPA nao colidam.
+ */
+@Component
+public class AccountIdAllocator {
+
+    private static final String NEXT_ID_BLOCKS_SQL = "SELECT nextval('conta_id_seq') FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountIdAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public long[] reserve(int quantity) {
+        int blocks = (quantity + Account.ID_ALLOCATION_SIZE - 1) / Account.ID_ALLOCATION_SIZE;
+        List<Long> hiValues = jdbcTemplate.queryForList(NEXT_ID_BLOCKS_SQL, Long.class, blocks);
+
+        long[] ids = new long[quantity];
+        int position = 0;
+        for (Long hi : hiValues) {
+            for (long id = hi - Account.ID_ALLOCATION_SIZE + 1; id <= hi && position < quantity; id++) {
+                ids[position++] = id;
+            }
+        }
+        return ids;
+    }
+}
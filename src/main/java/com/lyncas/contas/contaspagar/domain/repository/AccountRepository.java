@@ -1,29 +1,89 @@
 package com.lyncas.contas.contaspagar.domain.repository;
 
 import com.lyncas.contas.contaspagar.domain.model.Account;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
+/**
+ * As consultas de leitura projetam direto em {@link AccountDTO} (SELECT new ...) em transacoes somente leitura:
+ * nenhuma entidade e gerenciada pelo contexto de persistencia, entao nao ha snapshot para dirty checking nem
+ * flush no commit. As entidades ficam para os fluxos de escrita.
+ */
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
-    Page<Account> findByDataVencimentoBetweenAndDescricaoContainingIgnoreCase(
-            LocalDate dataVencimentoStart,
-            LocalDate dataVencimentoEnd,
-            String descricao,
-            Pageable pageable
-    );
-
-    @Query("""
-            SELECT SUM(a.valor) FROM Account a 
-            WHERE a.dataPagamento BETWEEN :startDate AND :endDate
-                    AND a.situacao = com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum.PAGA
-        """)
+    String DTO_PROJECTION = """
+            SELECT new com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO(
+                    a.id, a.dataVencimento, a.dataPagamento, a.valor, a.descricao, a.situacao, a.createdAt, a.updatedAt)
+            FROM Account a
+            """;
+
+    String SEARCH_FILTER = """
+            WHERE a.dataVencimento BETWEEN :startDate AND :endDate
+                    AND a.descricao ILIKE :descricaoPattern
+            """;
+
+    @Transactional(readOnly = true)
+    @Query(DTO_PROJECTION + "WHERE a.id = :id")
+    Optional<AccountDTO> findDTOById(Long id);
+
+    /**
+     * Busca por descricao com ILIKE sobre a propria coluna, atendido pelo indice de trigramas
+     * idx_conta_descricao_trgm (upper(descricao) LIKE upper(...) nao usaria o indice).
+     * O padrao ja deve vir com %, _ e barra invertida escapados.
+     */
+    @Transactional(readOnly = true)
+    @Query(value = DTO_PROJECTION + SEARCH_FILTER,
+            countQuery = "SELECT count(a) FROM Account a " + SEARCH_FILTER)
+    Page<AccountDTO> searchByDataVencimentoAndDescricao(LocalDate startDate, LocalDate endDate, String descricaoPattern,
+                                                        Pageable pageable);
+
+    /**
+     * Busca por descricao ordenada por relevancia: as descricoes mais proximas do termo (word_similarity do
+     * pg_trgm) vem primeiro, com desempate por vencimento e id. A ordenacao do Pageable e ignorada.
+     */
+    @Transactional(readOnly = true)
+    @Query(value = DTO_PROJECTION + SEARCH_FILTER + """
+            ORDER BY function('word_similarity', :descricao, a.descricao) DESC, a.dataVencimento, a.id
+            """,
+            countQuery = "SELECT count(a) FROM Account a " + SEARCH_FILTER)
+    Page<AccountDTO> searchByDataVencimentoAndDescricaoOrderByRelevance(LocalDate startDate, LocalDate endDate,
+                                                                         String descricao, String descricaoPattern,
+                                                                         Pageable pageable);
+
+    /**
+     * Pagina por busca (keyset) em (data_vencimento, id): sem OFFSET e sem COUNT, o custo de uma pagina
+     * profunda e o mesmo da primeira. O seek e a ordenacao usam idx_conta_data_vencimento_id (V10), que le as linhas
+     * ja na ordem da pagina a partir do cursor.
+     * O padrao de descricao ja deve vir com %, _ e barra invertida escapados.
+     */
+    @Transactional(readOnly = true)
+    @Query(DTO_PROJECTION + SEARCH_FILTER + """
+                    AND (a.dataVencimento, a.id) > (:afterDataVencimento, :afterId)
+            ORDER BY a.dataVencimento, a.id
+            """)
+    List<AccountDTO> findPageAfter(LocalDate startDate, LocalDate endDate, String descricaoPattern,
+                                   LocalDate afterDataVencimento, long afterId, Limit limit);
+
+    /**
+     * Soma o total pago pelo acumulado diario conta_pagamento_diario, mantido por triggers sobre conta: o custo
+     * depende da quantidade de dias do periodo, nao da quantidade de contas pagas.
+     */
+    @Transactional(readOnly = true)
+    @Query(value = """
+            SELECT SUM(valor_total) FROM conta_pagamento_diario
+            WHERE data_pagamento BETWEEN :startDate AND :endDate
+        """, nativeQuery = true)
     BigDecimal sumValorByDataPagamento(LocalDate startDate, LocalDate endDate);
-}
\ No newline at end of file
+}
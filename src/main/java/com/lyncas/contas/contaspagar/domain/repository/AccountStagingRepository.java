@@ -0,0 +1,164 @@
+package com.lyncas.contas.contaspagar.domain.repository;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.domain.model.Account;
+import com.lyncas.contas.contaspagar.exception.AccountCsvParseException;
+import jakarta.transaction.Transactional;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Importacao via tabela de staging: as linhas do CSV sao carregadas como texto, via COPY, em uma tabela
+ * UNLOGGED e sem indices, validadas em SQL e movidas para conta com um unico INSERT ... SELECT.
+ * Os indices de conta so sao mantidos no merge, e o merge grava o arquivo inteiro ou nada.
+ */
+@Repository
+public class AccountStagingRepository {
+
+    private static final String TABLE_PREFIX = "importacao_staging_";
+
+    private static final String CREATE_SQL = """
+            CREATE UNLOGGED TABLE %s (
+                linha BIGINT NOT NULL,
+                data_vencimento TEXT,
+                data_pagamento TEXT,
+                valor TEXT,
+                descricao TEXT,
+                situacao TEXT
+            )
+            """;
+
+    private static final String COPY_SQL = "COPY %s (linha, data_vencimento, data_pagamento, valor, descricao, situacao) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String VALOR_PATTERN = "^[+-]?([0-9]{1,13}([.][0-9]{0,2})?|[.][0-9]{1,2})$";
+
+    private static final String SITUACOES = Arrays.stream(AccountStatusEnum.values())
+            .map(situacao -> "'" + situacao.name() + "'")
+            .collect(Collectors.joining(", "));
+
+    // Mesmas regras do AccountCsvParser; CASE garante que o cast so ocorre depois do formato validado
+    private static final String FIRST_INVALID_SQL = """
+            SELECT linha, motivo FROM (
+                SELECT linha, CASE
+                    WHEN NOT importacao_data_valida(data_vencimento)
+                        THEN 'data_vencimento invalida: ' || COALESCE(data_vencimento, '')
+                    WHEN data_pagamento IS NOT NULL AND NOT importacao_data_valida(data_pagamento)
+                        THEN 'data_pagamento invalida: ' || data_pagamento
+                    WHEN valor IS NULL OR valor !~ '%s'
+                        THEN 'valor invalido: ' || COALESCE(valor, '')
+                    WHEN length(descricao) > 255
+                        THEN 'descricao com mais de 255 caracteres'
+                    WHEN situacao IS NULL OR upper(situacao) NOT IN (%s)
+                        THEN 'Status inválido: ' || COALESCE(situacao, '')
+                END AS motivo
+                FROM %s
+            ) validacao
+            WHERE motivo IS NOT NULL
+            ORDER BY linha
+            LIMIT 1
+            """;
+
+    // Os ids seguem a estrategia pooled do AccountIdAllocator: um nextval por bloco de ID_ALLOCATION_SIZE linhas.
+    // O CTE MATERIALIZED avalia os nextval uma unica vez; numa subquery do join o planner pode reexecuta-la
+    // (nested loop ou rescan) e consumir blocos a mais ou repetir ids.
+    private static final String MERGE_SQL = """
+            WITH bloco AS MATERIALIZED (
+                SELECT nextval('conta_id_seq') AS hi, g - 1 AS indice
+                FROM generate_series(1, ?) g
+            )
+            INSERT INTO conta (id, data_vencimento, data_pagamento, valor, descricao, situacao, created_at, updated_at)
+            SELECT bloco.hi - %1$d + 1 + mod(s.posicao, %1$d), s.data_vencimento::date, s.data_pagamento::date,
+                   s.valor::numeric(15, 2), COALESCE(s.descricao, ''), upper(s.situacao), ?, ?
+            FROM (
+                SELECT st.*, row_number() OVER (ORDER BY st.linha) - 1 AS posicao
+                FROM %2$s st
+                %3$s
+            ) s
+            JOIN bloco ON bloco.indice = s.posicao / %1$d
+            """;
+
+    private static final String DEDUP_FILTER = """
+            WHERE NOT EXISTS (
+                    SELECT 1 FROM conta c
+                    WHERE c.data_vencimento = st.data_vencimento::date
+                      AND c.situacao = upper(st.situacao)
+                      AND c.descricao = COALESCE(st.descricao, '')
+                      AND c.valor = st.valor::numeric(15, 2)
+                      AND c.created_at < ?
+                )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountStagingRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Cria uma tabela de staging exclusiva para uma importacao e retorna o seu nome.
+     */
+    @Transactional
+    public String createTable() {
+        String table = TABLE_PREFIX + UUID.randomUUID().toString().replace("-", "");
+        jdbcTemplate.execute(CREATE_SQL.formatted(table));
+        return table;
+    }
+
+    /**
+     * Carrega linhas no formato "linha,data_vencimento,data_pagamento,valor,descricao,situacao" sem validacao.
+     */
+    @Transactional
+    public long copyIn(String table, CharSequence csvRows) {
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class)
+                        .getCopyAPI()
+                        .copyIn(COPY_SQL.formatted(table), new StringReader(csvRows.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return copied != null ? copied : 0;
+    }
+
+    /**
+     * Valida a tabela de staging e move suas linhas para conta na mesma transacao. Com dedupCreatedBefore,
+     * descarta as linhas cuja chave natural ja existia em conta antes desse instante.
+     *
+     * @return quantidade de contas gravadas
+     * @throws AccountCsvParseException com a primeira linha invalida, sem gravar nada
+     */
+    @Transactional
+    public long merge(String table, long stagedRows, LocalDateTime dedupCreatedBefore) {
+        List<String> invalid = jdbcTemplate.query(FIRST_INVALID_SQL.formatted(VALOR_PATTERN, SITUACOES, table),
+                (rs, rowNum) -> "Linha " + rs.getLong("linha") + ": " + rs.getString("motivo"));
+        if (!invalid.isEmpty()) {
+            throw new AccountCsvParseException(invalid.get(0));
+        }
+
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        long blocks = (stagedRows + Account.ID_ALLOCATION_SIZE - 1) / Account.ID_ALLOCATION_SIZE;
+        if (dedupCreatedBefore == null) {
+            return jdbcTemplate.update(MERGE_SQL.formatted(Account.ID_ALLOCATION_SIZE, table, ""), blocks, now, now);
+        }
+        return jdbcTemplate.update(MERGE_SQL.formatted(Account.ID_ALLOCATION_SIZE, table, DEDUP_FILTER),
+                blocks, now, now, Timestamp.valueOf(dedupCreatedBefore));
+    }
+
+    @Transactional
+    public void dropTable(String table) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+    }
+}
@@ -0,0 +1,42 @@
+package com.lyncas.contas.contaspagar.domain.repository;
+
+import com.lyncas.contas.contaspagar.domain.model.ImportManifest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImportManifestRepository extends JpaRepository<ImportManifest, Long> {
+
+    Optional<ImportManifest> findByFileHash(String fileHash);
+
+    @Query(value = "SELECT indice FROM importacao_chunk WHERE importacao_id = :importacaoId", nativeQuery = true)
+    List<Integer> findCommittedChunkIndexes(Long importacaoId);
+
+    @Query(value = """
+            SELECT linha_inicial, quantidade_linhas FROM importacao_chunk
+            WHERE importacao_id = :importacaoId AND linha_inicial IS NOT NULL
+        """, nativeQuery = true)
+    List<Object[]> findCommittedLineRanges(Long importacaoId);
+
+    @Query(value = "SELECT COALESCE(MAX(indice) + 1, 0) FROM importacao_chunk WHERE importacao_id = :importacaoId", nativeQuery = true)
+    int findNextChunkIndex(Long importacaoId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO importacao_chunk (importacao_id, indice, linha_inicial, quantidade_linhas)
+            VALUES (:importacaoId, :indice, :linhaInicial, :quantidadeLinhas)
+        """, nativeQuery = true)
+    void insertCommittedChunk(Long importacaoId, int indice, long linhaInicial, int quantidadeLinhas);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO importacao_chunk (importacao_id, indice, byte_inicial, quantidade_linhas)
+            VALUES (:importacaoId, :indice, :byteInicial, :quantidadeLinhas)
+        """, nativeQuery = true)
+    void insertCommittedRange(Long importacaoId, int indice, long byteInicial, int quantidadeLinhas);
+}
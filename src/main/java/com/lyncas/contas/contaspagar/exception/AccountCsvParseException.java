@@ -0,0 +1,8 @@
+package com.lyncas.contas.contaspagar.exception;
+
+public class AccountCsvParseException extends RuntimeException {
+
+    public AccountCsvParseException(String message) {
+        super(message);
+    }
+}
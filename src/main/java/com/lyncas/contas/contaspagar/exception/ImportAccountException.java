@@ -2,6 +2,10 @@ package com.lyncas.contas.contaspagar.exception;
 
 public class ImportAccountException extends RuntimeException {
 
+    public ImportAccountException(String message) {
+        super(message);
+    }
+
     public ImportAccountException(String message, Throwable cause) {
         super(message, cause);
     }
@@ -0,0 +1,8 @@
+package com.lyncas.contas.contaspagar.exception;
+
+public class ImportJobNotFoundException extends RuntimeException {
+
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
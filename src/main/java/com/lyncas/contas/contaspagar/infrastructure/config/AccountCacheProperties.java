@@ -0,0 +1,56 @@
+package com.lyncas.contas.contaspagar.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Cache em memoria das leituras repetidas (total pago, paginas da listagem, totais agrupados e contas por id).
+ * Cada cache guarda no maximo maxEntries resultados (accountMaxEntries para as contas por id), descartando o menos
+ * usado, e nenhum resultado e servido depois do ttl, mesmo sem escrita.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "contas.cache")
+public class AccountCacheProperties {
+
+    private boolean enabled = true;
+
+    private int maxEntries = 1000;
+
+    private int accountMaxEntries = 10_000;
+
+    private Duration ttl = Duration.ofSeconds(30);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public int getAccountMaxEntries() {
+        return accountMaxEntries;
+    }
+
+    public void setAccountMaxEntries(int accountMaxEntries) {
+        this.accountMaxEntries = accountMaxEntries;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+}
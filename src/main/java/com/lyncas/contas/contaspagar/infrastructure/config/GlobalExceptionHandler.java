@@ -1,6 +1,7 @@
 package com.lyncas.contas.contaspagar.infrastructure.config;
 
 import com.lyncas.contas.contaspagar.exception.AccountNotFoundException;
+import com.lyncas.contas.contaspagar.exception.ImportJobNotFoundException;
 import com.lyncas.contas.contaspagar.exception.SituacaoException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +31,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(details);
     }
 
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleImportJobNotFoundException(
+            ImportJobNotFoundException ex, WebRequest request) {
+        logger.error("Importacao não encontrada: {}", ex.getMessage());
+        ProblemDetail details = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+        details.setProperty("path", request.getDescription(false).replace("uri=", ""));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(details);
+    }
+
     @ExceptionHandler({MethodArgumentNotValidException.class})
     public ResponseEntity<ProblemDetail> handleValidationExceptions(
             MethodArgumentNotValidException ex, WebRequest request) {
@@ -0,0 +1,233 @@
+package com.lyncas.contas.contaspagar.infrastructure.config;
+
+import com.lyncas.contas.contaspagar.domain.enums.ImportEngineEnum;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "contas.import")
+public class ImportProperties {
+
+    private ImportEngineEnum engine = ImportEngineEnum.JPA;
+
+    /**
+     * Descarta linhas cuja chave natural (vencimento, valor, descricao, situacao) ja existe em conta.
+     */
+    private boolean dedup = false;
+
+    /**
+     * Quantidade de contas esperada no periodo do arquivo, usada para dimensionar o filtro de Bloom da deduplicacao.
+     */
+    private long dedupExpectedRows = 10_000_000L;
+
+    /**
+     * Diretorio de onde o import de arquivos do servidor pode ler (ex.: volume montado de drop).
+     */
+    private String serverDirectory = "/app/import";
+
+    /**
+     * Tamanho aproximado, em bytes, de cada faixa do arquivo processada em paralelo.
+     */
+    private int serverFileRangeBytes = 256 * 1024;
+
+    private final Adaptive adaptive = new Adaptive();
+
+    private final Pipeline pipeline = new Pipeline();
+
+    public ImportEngineEnum getEngine() {
+        return engine;
+    }
+
+    public void setEngine(ImportEngineEnum engine) {
+        this.engine = engine;
+    }
+
+    public String getServerDirectory() {
+        return serverDirectory;
+    }
+
+    public void setServerDirectory(String serverDirectory) {
+        this.serverDirectory = serverDirectory;
+    }
+
+    public int getServerFileRangeBytes() {
+        return serverFileRangeBytes;
+    }
+
+    public void setServerFileRangeBytes(int serverFileRangeBytes) {
+        this.serverFileRangeBytes = serverFileRangeBytes;
+    }
+
+    public Adaptive getAdaptive() {
+        return adaptive;
+    }
+
+    public Pipeline getPipeline() {
+        return pipeline;
+    }
+
+    public boolean isDedup() {
+        return dedup;
+    }
+
+    public void setDedup(boolean dedup) {
+        this.dedup = dedup;
+    }
+
+    public long getDedupExpectedRows() {
+        return dedupExpectedRows;
+    }
+
+    public void setDedupExpectedRows(long dedupExpectedRows) {
+        this.dedupExpectedRows = dedupExpectedRows;
+    }
+
+    /**
+     * Limites do controle adaptativo da importacao. A quantidade de chunks simultaneos e o tamanho dos chunks
+     * crescem enquanto os commits ficam abaixo do tempo alvo e caem pela metade quando o commit passa do alvo
+     * ou ha threads aguardando conexao no pool.
+     */
+    public static class Adaptive {
+
+        private int minConcurrentChunks = 1;
+        private int initialConcurrentChunks = 4;
+        private int maxConcurrentChunks = 16;
+
+        /**
+         * Conexoes do pool que a importacao nunca ocupa, reservadas ao trafego da API.
+         */
+        private int reservedConnections = 20;
+
+        private int minChunkSize = 500;
+        private int initialChunkSize = 5000;
+        private int maxChunkSize = 20_000;
+
+        private long targetCommitMillis = 500;
+
+        public int getMinConcurrentChunks() {
+            return minConcurrentChunks;
+        }
+
+        public void setMinConcurrentChunks(int minConcurrentChunks) {
+            this.minConcurrentChunks = minConcurrentChunks;
+        }
+
+        public int getInitialConcurrentChunks() {
+            return initialConcurrentChunks;
+        }
+
+        public void setInitialConcurrentChunks(int initialConcurrentChunks) {
+            this.initialConcurrentChunks = initialConcurrentChunks;
+        }
+
+        public int getMaxConcurrentChunks() {
+            return maxConcurrentChunks;
+        }
+
+        public void setMaxConcurrentChunks(int maxConcurrentChunks) {
+            this.maxConcurrentChunks = maxConcurrentChunks;
+        }
+
+        public int getReservedConnections() {
+            return reservedConnections;
+        }
+
+        public void setReservedConnections(int reservedConnections) {
+            this.reservedConnections = reservedConnections;
+        }
+
+        public int getMinChunkSize() {
+            return minChunkSize;
+        }
+
+        public void setMinChunkSize(int minChunkSize) {
+            this.minChunkSize = minChunkSize;
+        }
+
+        public int getInitialChunkSize() {
+            return initialChunkSize;
+        }
+
+        public void setInitialChunkSize(int initialChunkSize) {
+            this.initialChunkSize = initialChunkSize;
+        }
+
+        public int getMaxChunkSize() {
+            return maxChunkSize;
+        }
+
+        public void setMaxChunkSize(int maxChunkSize) {
+            this.maxChunkSize = maxChunkSize;
+        }
+
+        public long getTargetCommitMillis() {
+            return targetCommitMillis;
+        }
+
+        public void setTargetCommitMillis(long targetCommitMillis) {
+            this.targetCommitMillis = targetCommitMillis;
+        }
+    }
+
+    /**
+     * Dimensionamento dos estagios da importacao (leitura, parse e escrita).
+     */
+    public static class Pipeline {
+
+        /**
+         * Threads de parse por importacao; 0 usa a quantidade de processadores.
+         */
+        private int parseWorkers = 0;
+
+        /**
+         * Capacidade de cada fila entre estagios, em chunks.
+         */
+        private int queueCapacity = 8;
+
+        /**
+         * Importacoes (ou entradas de zip) com pipeline ativo ao mesmo tempo; limita as threads dos estagios.
+         */
+        private int maxConcurrentImports = 8;
+
+        /**
+         * Entradas de um arquivo zip importadas em paralelo.
+         */
+        private int archiveEntryParallelism = 4;
+
+        public int getParseWorkers() {
+            return parseWorkers;
+        }
+
+        public void setParseWorkers(int parseWorkers) {
+            this.parseWorkers = parseWorkers;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getMaxConcurrentImports() {
+            return maxConcurrentImports;
+        }
+
+        public void setMaxConcurrentImports(int maxConcurrentImports) {
+            this.maxConcurrentImports = maxConcurrentImports;
+        }
+
+        public int getArchiveEntryParallelism() {
+            return archiveEntryParallelism;
+        }
+
+        public void setArchiveEntryParallelism(int archiveEntryParallelism) {
+            this.archiveEntryParallelism = archiveEntryParallelism;
+        }
+
+        public int parseWorkerCount() {
+            return parseWorkers > 0 ? parseWorkers : Runtime.getRuntime().availableProcessors();
+        }
+    }
+}
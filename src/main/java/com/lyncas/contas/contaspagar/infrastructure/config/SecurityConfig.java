@@ -2,6 +2,7 @@ package com.lyncas.contas.contaspagar.infrastructure.config;
 
 import com.lyncas.contas.contaspagar.infrastructure.security.JwtAuthorizationFilter;
 import com.lyncas.contas.contaspagar.infrastructure.security.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -34,6 +35,8 @@ public class SecurityConfig {
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // O dispatch ASYNC so conclui respostas em streaming ja autorizadas no dispatch original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/auth/**",
                                 "/swagger-ui/**",
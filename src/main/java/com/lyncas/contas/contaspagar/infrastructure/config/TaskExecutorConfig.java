@@ -9,19 +9,76 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @Configuration
 public class TaskExecutorConfig {
 
-    private static final int CORE_POOL_SIZE = 5;
-    private static final int MAX_POOL_SIZE = 10;
-    private static final int QUEUE_CAPACITY = 25;
     private static final String THREAD_NAME_PREFIX = "TaskExecutor-importacao-contas-";
+    private static final String PARSE_THREAD_NAME_PREFIX = "TaskExecutor-parse-importacao-";
+    private static final String ARCHIVE_THREAD_NAME_PREFIX = "TaskExecutor-zip-importacao-";
 
+    private static final int JOB_POOL_SIZE = 2;
+    private static final int JOB_QUEUE_CAPACITY = 100;
+    private static final String JOB_THREAD_NAME_PREFIX = "TaskExecutor-job-importacao-";
+
+    /**
+     * Estagio de escrita das importacoes: cada pipeline usa ate maxConcurrentChunks workers, e quantos gravam ao
+     * mesmo tempo e decidido pelo ImportThrottle.
+     */
     @Bean
     @Qualifier("importExecutor")
-    public TaskExecutor taskExecutor() {
+    public TaskExecutor taskExecutor(ImportProperties importProperties) {
+        return stageExecutor(importProperties.getAdaptive().getMaxConcurrentChunks(), importProperties, THREAD_NAME_PREFIX);
+    }
+
+    /**
+     * Estagio de parse/validacao das importacoes, dimensionado pelos processadores disponiveis.
+     */
+    @Bean
+    @Qualifier("importParseExecutor")
+    public TaskExecutor importParseExecutor(ImportProperties importProperties) {
+        return stageExecutor(importProperties.getPipeline().parseWorkerCount(), importProperties, PARSE_THREAD_NAME_PREFIX);
+    }
+
+    /**
+     * Coordena as entradas de um zip importadas em paralelo; cada entrada le e distribui seus proprios chunks.
+     * A fila nao e limitada porque recebe no maximo uma tarefa por entrada do arquivo.
+     */
+    @Bean
+    @Qualifier("importArchiveExecutor")
+    public TaskExecutor importArchiveExecutor(ImportProperties importProperties) {
+        int poolSize = importProperties.getPipeline().getArchiveEntryParallelism();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix(ARCHIVE_THREAD_NAME_PREFIX);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Coordena os jobs de importacao (leitura do arquivo e distribuicao dos chunks).
+     * Fica separado do importExecutor para que um coordenador nunca ocupe a thread que processaria seus proprios chunks.
+     */
+    @Bean
+    @Qualifier("importJobExecutor")
+    public TaskExecutor importJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(JOB_POOL_SIZE);
+        executor.setMaxPoolSize(JOB_POOL_SIZE);
+        executor.setQueueCapacity(JOB_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix(JOB_THREAD_NAME_PREFIX);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Os workers de um estagio ficam ativos enquanto o pipeline existir, entre um chunk e outro. Um worker parado
+     * na fila do executor poderia segurar outro pipeline que ja ocupa threads, por isso nao ha fila: cada worker
+     * recebe uma thread na hora, e acima de maxConcurrentImports pipelines a importacao e rejeitada.
+     */
+    private ThreadPoolTaskExecutor stageExecutor(int workersPerImport, ImportProperties importProperties, String threadNamePrefix) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(CORE_POOL_SIZE);
-        executor.setMaxPoolSize(MAX_POOL_SIZE);
-        executor.setQueueCapacity(QUEUE_CAPACITY);
-        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        executor.setCorePoolSize(workersPerImport * JOB_POOL_SIZE);
+        executor.setMaxPoolSize(workersPerImport * Math.max(JOB_POOL_SIZE, importProperties.getPipeline().getMaxConcurrentImports()));
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix(threadNamePrefix);
         executor.initialize();
         return executor;
     }
@@ -1,8 +1,26 @@
 package com.lyncas.contas.contaspagar.resource.controller.v1;
 
+import com.lyncas.contas.contaspagar.domain.enums.ExportFormatEnum;
+import com.lyncas.contas.contaspagar.domain.enums.ImportEngineEnum;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountAnalyticsGroupDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountBulkCreateResultDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountBulkStatusDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountBulkStatusResultDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountCursorPageDTO;
 import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountLookupDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountLookupResultDTO;
 import com.lyncas.contas.contaspagar.resource.dto.v1.AlterStatusDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.CacheStatsDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.ImportJobDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.ServerFileImportDTO;
+import com.lyncas.contas.contaspagar.resource.mapper.v1.ImportJobMapper;
+import com.lyncas.contas.contaspagar.service.AccountAnalyticsService;
+import com.lyncas.contas.contaspagar.service.AccountBulkCreateService;
+import com.lyncas.contas.contaspagar.service.AccountExportService;
 import com.lyncas.contas.contaspagar.service.AccountService;
+import com.lyncas.contas.contaspagar.service.ImportJobService;
+import com.lyncas.contas.contaspagar.service.ImportOptions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -16,6 +34,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
@@ -26,15 +47,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/accounts")
@@ -42,10 +71,29 @@ public class AccountController {
 
     private static final Logger logger = LoggerFactory.getLogger(AccountController.class);
 
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    // O cliente pode guardar a conta, mas revalida com If-None-Match a cada uso
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final AccountService accountService;
+    private final AccountBulkCreateService accountBulkCreateService;
+    private final AccountAnalyticsService accountAnalyticsService;
+    private final AccountExportService accountExportService;
+    private final ImportJobService importJobService;
+    private final ImportJobMapper importJobMapper;
 
-    public AccountController(AccountService accountService) {
+    public AccountController(AccountService accountService,
+                             AccountBulkCreateService accountBulkCreateService,
+                             AccountAnalyticsService accountAnalyticsService,
+                             AccountExportService accountExportService,
+                             ImportJobService importJobService,
+                             ImportJobMapper importJobMapper) {
         this.accountService = accountService;
+        this.accountBulkCreateService = accountBulkCreateService;
+        this.accountAnalyticsService = accountAnalyticsService;
+        this.accountExportService = accountExportService;
+        this.importJobService = importJobService;
+        this.importJobMapper = importJobMapper;
     }
 
     @Operation(summary = "Cria uma nova conta a pagar",
@@ -97,6 +145,49 @@ public class AccountController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdAccount);
     }
 
+    @Operation(summary = "Cria varias contas a pagar",
+            description = "Aceita um array JSON ou NDJSON (uma conta por linha), lido em streaming. Cada item e validado " +
+                    "como no cadastro individual e os validos sao gravados em blocos, pelo mesmo caminho da importacao. " +
+                    "O resultado traz, na ordem do corpo, o id de cada conta criada ou os erros do item rejeitado. " +
+                    "Se o JSON estiver malformado, se um bloco falhar ao gravar ou se o corpo passar de 50000 itens, " +
+                    "a leitura para e o motivo volta em erro; os blocos ja gravados sao mantidos e trazem os seus ids",
+            security = @SecurityRequirement(name = "BearerAuth"),
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Contas a serem criadas",
+                    required = true,
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(name = "Array JSON",
+                                    value = """
+                [
+                    {"dataVencimento": "2025-12-31", "valor": 1500.00, "descricao": "Serviços de telefonia", "situacao": "PENDENTE"},
+                    {"dataVencimento": "2025-12-31", "dataPagamento": "2025-12-30", "valor": 80.00, "descricao": "Agua", "situacao": "PAGA"}
+                ]
+                """)),
+                            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, examples = @ExampleObject(name = "NDJSON",
+                                    value = """
+                {"dataVencimento": "2025-12-31", "valor": 1500.00, "descricao": "Serviços de telefonia", "situacao": "PENDENTE"}
+                {"dataVencimento": "2025-12-31", "dataPagamento": "2025-12-30", "valor": 80.00, "descricao": "Agua", "situacao": "PAGA"}
+                """))
+                    }))
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Não autorizado"
+            ),
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Resultado de cada item",
+                    content = @Content(schema = @Schema(implementation = AccountBulkCreateResultDTO.class))
+            )
+    })
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<AccountBulkCreateResultDTO> createAccounts(InputStream body) throws IOException {
+        return ResponseEntity.ok(accountBulkCreateService.create(body));
+    }
+
     @Operation(summary = "Atualiza uma conta a pagar", security = @SecurityRequirement(name = "BearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(
@@ -151,7 +242,61 @@ public class AccountController {
         return ResponseEntity.ok(updatedAccount);
     }
 
-    @Operation(summary = "Lista paginada de contas a pagar de acordo com um critério de busca", security = @SecurityRequirement(name = "BearerAuth"))
+    @Operation(summary = "Atualiza o status de varias contas a pagar",
+            description = "Recebe uma lista de ids (ate " + AccountBulkStatusDTO.MAX_IDS + ") ou um filtro por periodo " +
+                    "de vencimento e situacao atual, e altera as contas com um UPDATE por bloco de ids. Contas marcadas " +
+                    "como PAGA recebem dataPagamento, quando informada, ou mantem a sua, como na alteracao de uma conta. Cada bloco " +
+                    "e gravado na sua transacao; a operacao pode ser repetida apos uma falha",
+            security = @SecurityRequirement(name = "BearerAuth"),
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Nova situacao e contas alvo",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = AccountBulkStatusDTO.class),
+                            examples = {
+                                    @ExampleObject(name = "Por ids", value = """
+                {
+                    "situacao": "PAGA",
+                    "dataPagamento": "2025-01-10",
+                    "ids": [1, 2, 3]
+                }
+                """),
+                                    @ExampleObject(name = "Por filtro", value = """
+                {
+                    "situacao": "CANCELADA",
+                    "startDate": "2025-01-01",
+                    "endDate": "2025-01-31",
+                    "situacaoAtual": "PENDENTE"
+                }
+                """)
+                            })))
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Dados inválidos, ids e filtro juntos ou nenhum deles",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Não autorizado"
+            ),
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Quantidade de contas alteradas",
+                    content = @Content(schema = @Schema(implementation = AccountBulkStatusResultDTO.class))
+            )
+    })
+    @PatchMapping("/status")
+    public ResponseEntity<AccountBulkStatusResultDTO> changeStatusInBulk(@Valid @RequestBody AccountBulkStatusDTO accountBulkStatusDTO) {
+        return ResponseEntity.ok(accountService.changeStatusInBulk(accountBulkStatusDTO));
+    }
+
+    @Operation(summary = "Lista paginada de contas a pagar de acordo com um critério de busca",
+            description = "Com relevancia=true e uma descricao informada, as contas cuja descricao mais se aproxima do " +
+                    "termo vem primeiro e o parametro sort e ignorado",
+            security = @SecurityRequirement(name = "BearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "401",
@@ -175,18 +320,62 @@ public class AccountController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(defaultValue = "") String descricao,
+            @RequestParam(defaultValue = "false") boolean relevancia,
             Pageable pageable) {
         Page<AccountDTO> accounts = accountService.listByDataVencimentoAndDescricao(
                 startDate != null ? startDate : LocalDate.MIN,
                 endDate != null ? endDate : LocalDate.MAX,
                 descricao,
+                relevancia,
                 pageable
         );
         return ResponseEntity.ok(accounts);
     }
 
-    @Operation(summary = "Obtem uma conta a pagar pelo seu id", security = @SecurityRequirement(name = "BearerAuth"))
+    @Operation(summary = "Lista de contas a pagar por cursor, ordenada por data de vencimento e id",
+            description = "Alternativa a listagem paginada para percorrer periodos grandes: cada pagina retorna o cursor da " +
+                    "proxima (nextCursor), sem contagem total e com o mesmo custo em qualquer profundidade. " +
+                    "Envie o cursor recebido com os mesmos filtros para obter a pagina seguinte",
+            security = @SecurityRequirement(name = "BearerAuth"))
     @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Cursor ou tamanho de pagina invalido",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Não autorizado"
+            ),
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Retorno com sucesso",
+                    content = @Content(schema = @Schema(implementation = AccountCursorPageDTO.class))
+            )
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<AccountCursorPageDTO> listAccountsByCursor(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "") String descricao,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(accountService.listByDataVencimentoAndDescricaoAfter(startDate, endDate, descricao, cursor, size));
+    }
+
+    @Operation(summary = "Obtem uma conta a pagar pelo seu id",
+            description = "A resposta traz um ETag derivado do id e da ultima alteracao da conta. Enviado de volta em " +
+                    "If-None-Match, a conta so e retornada se tiver mudado; caso contrario a resposta e 304, sem corpo",
+            security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Conta nao alterada desde o ETag informado"
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "Unauthorized"
@@ -209,9 +398,87 @@ public class AccountController {
             )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<AccountDTO> getAccountById(@PathVariable Long id) {
+    public ResponseEntity<AccountDTO> getAccountById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         AccountDTO accountDTO = accountService.getAccountById(id);
-        return ResponseEntity.ok(accountDTO);
+        String etag = etag(accountDTO);
+        if (matchesAny(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .body(accountDTO);
+    }
+
+    @Operation(summary = "Obtem varias contas a pagar pelos seus ids",
+            description = "Busca ate " + AccountLookupDTO.MAX_IDS + " contas em uma unica consulta. As contas " +
+                    "encontradas voltam ordenadas por id e os ids sem conta em naoEncontrados, na ordem do pedido",
+            security = @SecurityRequirement(name = "BearerAuth"),
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Ids das contas",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = AccountLookupDTO.class),
+                            examples = @ExampleObject(name = "Ids", value = """
+                {
+                    "ids": [1, 2, 51]
+                }
+                """))))
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Lista de ids vazia, com id nulo ou com mais ids que o permitido",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Não autorizado"
+            ),
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Retorno com sucesso",
+                    content = @Content(schema = @Schema(implementation = AccountLookupResultDTO.class))
+            )
+    })
+    @PostMapping("/lookup")
+    public ResponseEntity<AccountLookupResultDTO> lookupAccounts(@Valid @RequestBody AccountLookupDTO accountLookupDTO) {
+        return ResponseEntity.ok(accountService.lookup(accountLookupDTO.getIds()));
+    }
+
+    /**
+     * ETag forte a partir do id e da ultima alteracao (ou da criacao, em contas nunca alteradas); toda escrita
+     * em conta atualiza updated_at.
+     */
+    private static String etag(AccountDTO account) {
+        LocalDateTime changedAt = account.getUpdatedAt() != null ? account.getUpdatedAt() : account.getCreatedAt();
+        long changedAtMicros = changedAt != null
+                ? ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), changedAt)
+                : 0;
+        return "\"" + account.getId() + "-" + Long.toHexString(changedAtMicros) + "\"";
+    }
+
+    // If-None-Match usa comparacao fraca (RFC 9110): W/"x" corresponde a "x"
+    private static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Operation(summary = "Soma os valores a pagos conforme um periodo de data de pagamentos", security = @SecurityRequirement(name = "BearerAuth"))
@@ -241,8 +508,110 @@ public class AccountController {
         return ResponseEntity.ok(totalPaid);
     }
 
+    @Operation(summary = "Totais e quantidades das contas de um periodo de vencimento, agrupados",
+            description = "Retorna, em uma unica consulta, a soma dos valores e a quantidade de contas por situacao, " +
+                    "mes de vencimento e mes de pagamento e por cada combinacao dessas dimensoes, incluindo o total " +
+                    "geral. O campo dimensoes de cada grupo diz por quais dimensoes ele foi agrupado; nos grupos por " +
+                    "mesPagamento, mesPagamento nulo reune as contas sem pagamento",
+            security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Periodo invalido",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Não autorizado"
+            ),
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Retorno com sucesso"
+            )
+    })
+    @GetMapping("/analytics")
+    public ResponseEntity<List<AccountAnalyticsGroupDTO>> getAnalytics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(accountAnalyticsService.getAnalytics(startDate, endDate));
+    }
+
+    @Operation(summary = "Estatisticas do cache de leitura do total pago, da listagem e da analise",
+            description = "Acertos, faltas e descartes (por tamanho ou expiracao) desde o inicio da aplicacao, " +
+                    "para dimensionar contas.cache.max-entries e contas.cache.ttl",
+            security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Não autorizado"
+            ),
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Retorno com sucesso"
+            )
+    })
+    @GetMapping("/cache/stats")
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats() {
+        return ResponseEntity.ok(accountService.getCacheStats());
+    }
+
+    @Operation(summary = "Exporta as contas a pagar de um periodo de vencimento",
+            description = "O arquivo e gerado enquanto e enviado, sem limite de tamanho. Em CSV, usa o mesmo formato " +
+                    "aceito pela importacao (data_vencimento, data_pagamento, valor, descricao, situacao, com cabecalho); " +
+                    "em NDJSON, uma conta por linha com todos os campos. As contas nao seguem uma ordem definida",
+            security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Periodo invalido",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Não autorizado"
+            ),
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Arquivo exportado"
+            )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAccounts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "CSV") ExportFormatEnum format) {
+        accountExportService.checkPeriod(startDate, endDate);
+        String extension = format == ExportFormatEnum.CSV ? "csv" : "ndjson";
+        MediaType mediaType = format == ExportFormatEnum.CSV ? TEXT_CSV : MediaType.APPLICATION_NDJSON;
+        StreamingResponseBody body = out -> accountExportService.export(startDate, endDate, format, out);
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("contas_" + startDate + "_" + endDate + "." + extension)
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @Operation(summary = "Importa dados de contas a partir de um arquivo CSV",
-            description = "Aceita arquivos .csv (somente) com a seguinte sintaxe: data_vencimento, data_pagamento, valor, descricao, situacao, com este cabeçalho na primeira linha",
+            description = "Aceita arquivos .csv, .csv.gz ou .zip de CSVs com a seguinte sintaxe: data_vencimento, data_pagamento, valor, descricao, situacao, com este cabeçalho na primeira linha. " +
+                    "O parametro engine (JPA, COPY ou STAGING) sobrescreve a engine de importacao configurada; " +
+                    "STAGING carrega o arquivo em uma tabela temporaria e grava tudo ou nada em conta. " +
+                    "Com dedup=true, linhas cuja chave (vencimento, valor, descricao, situacao) ja existe sao descartadas. " +
+                    "As entradas de um .zip sao importadas em paralelo. " +
+                    "A importacao e executada de forma assincrona; acompanhe o progresso em /api/v1/accounts/import/{jobId}",
             security = @SecurityRequirement(name = "BearerAuth")
     )
     @ApiResponses(value = {
@@ -260,16 +629,115 @@ public class AccountController {
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class))
             ),
             @ApiResponse(
-                    responseCode = "201",
-                    description = "Executado com sucesso"
+                    responseCode = "202",
+                    description = "Importacao registrada",
+                    content = @Content(schema = @Schema(implementation = ImportJobDTO.class))
             )
     })
     @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<Void> importAccounts(
-            @RequestPart("file") MultipartFile file
+    public ResponseEntity<ImportJobDTO> importAccounts(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) ImportEngineEnum engine,
+            @RequestParam(required = false) Boolean dedup
     ) throws IOException {
         logger.info("Importando contas a partir de arquvivo: {}", file.getOriginalFilename());
-        accountService.importAccounts(file.getInputStream());
-        return ResponseEntity.status(HttpStatus.CREATED).build();
+        var job = importJobService.submit(file.getInputStream(), file.getOriginalFilename(), new ImportOptions(engine, dedup));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importJobMapper.toDTO(job));
+    }
+
+    @Operation(summary = "Importa contas a partir de um CSV enviado como corpo da requisição, em streaming",
+            description = "Mesmo formato do import via upload, enviado como corpo text/csv (sem multipart e sem limite de tamanho). " +
+                    "Corpo gzip ou zip e descompactado durante a leitura. " +
+                    "As linhas sao gravadas enquanto o arquivo e recebido; a resposta e enviada ao final da importacao",
+            security = @SecurityRequirement(name = "BearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Não autorizado"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Erro interno do servidor",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Importacao concluida",
+                    content = @Content(schema = @Schema(implementation = ImportJobDTO.class))
+            )
+    })
+    @PostMapping(value = "/import/stream", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            "application/gzip", "application/x-gzip", "application/zip"})
+    public ResponseEntity<ImportJobDTO> importAccountsStream(
+            InputStream body,
+            @RequestParam(required = false) String fileName,
+            @RequestParam(required = false) ImportEngineEnum engine,
+            @RequestParam(required = false) Boolean dedup) {
+        logger.info("Importando contas em streaming: {}", fileName);
+        var job = importJobService.importStream(body, fileName, new ImportOptions(engine, dedup));
+        return ResponseEntity.status(HttpStatus.CREATED).body(importJobMapper.toDTO(job));
+    }
+
+    @Operation(summary = "Importa um arquivo CSV ja presente no diretorio de importacao do servidor",
+            description = "O arquivo e mapeado em memoria e processado em faixas paralelas, sem upload. " +
+                    "Arquivos .csv.gz e .zip sao descompactados durante a leitura. " +
+                    "Mesmo formato do import via upload",
+            security = @SecurityRequirement(name = "BearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Caminho inválido ou arquivo inexistente",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Não autorizado"
+            ),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Importacao registrada",
+                    content = @Content(schema = @Schema(implementation = ImportJobDTO.class))
+            )
+    })
+    @PostMapping("/import/server-file")
+    public ResponseEntity<ImportJobDTO> importServerFile(@Valid @RequestBody ServerFileImportDTO serverFileImportDTO) throws IOException {
+        logger.info("Importando contas a partir do arquivo do servidor: {}", serverFileImportDTO.getPath());
+        var job = importJobService.submitServerFile(serverFileImportDTO.getPath(),
+                new ImportOptions(serverFileImportDTO.getEngine(), serverFileImportDTO.getDedup()));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importJobMapper.toDTO(job));
+    }
+
+    @Operation(summary = "Obtem a situacao e o progresso de uma importacao", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Não autorizado"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Importacao não encontrada"
+            ),
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Retorno com sucesso"
+            )
+    })
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ImportJobDTO> getImportJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(importJobMapper.toDTO(importJobService.getJob(jobId)));
     }
 }
@@ -0,0 +1,110 @@
+package com.lyncas.contas.contaspagar.resource.dto.v1;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+public class AccountAnalyticsGroupDTO {
+
+    @Schema(description = "Dimensoes do agrupamento; vazia no total geral",
+            example = "[\"situacao\", \"mesPagamento\"]")
+    private List<String> dimensoes;
+    @Schema(description = "Situação, quando agrupado por situacao", example = "PAGA")
+    private AccountStatusEnum situacao;
+    @Schema(description = "Mes de vencimento, quando agrupado por mesVencimento", type = "string", example = "2025-01")
+    private YearMonth mesVencimento;
+    @Schema(description = "Mes de pagamento, quando agrupado por mesPagamento; nulo no grupo das contas sem pagamento",
+            type = "string", example = "2025-02")
+    private YearMonth mesPagamento;
+    @Schema(description = "Quantidade de contas do grupo", example = "42")
+    private long quantidade;
+    @Schema(description = "Soma dos valores das contas do grupo", example = "15320.50")
+    private BigDecimal valorTotal;
+
+    public AccountAnalyticsGroupDTO() {}
+
+    private AccountAnalyticsGroupDTO(Builder builder) {
+        this.dimensoes = builder.dimensoes;
+        this.situacao = builder.situacao;
+        this.mesVencimento = builder.mesVencimento;
+        this.mesPagamento = builder.mesPagamento;
+        this.quantidade = builder.quantidade;
+        this.valorTotal = builder.valorTotal;
+    }
+
+    // Getters
+
+    public List<String> getDimensoes() {
+        return dimensoes;
+    }
+
+    public AccountStatusEnum getSituacao() {
+        return situacao;
+    }
+
+    public YearMonth getMesVencimento() {
+        return mesVencimento;
+    }
+
+    public YearMonth getMesPagamento() {
+        return mesPagamento;
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public BigDecimal getValorTotal() {
+        return valorTotal;
+    }
+
+    // Builder
+
+    public static class Builder {
+        private List<String> dimensoes;
+        private AccountStatusEnum situacao;
+        private YearMonth mesVencimento;
+        private YearMonth mesPagamento;
+        private long quantidade;
+        private BigDecimal valorTotal;
+
+        public Builder() {}
+
+        public Builder dimensoes(List<String> dimensoes) {
+            this.dimensoes = dimensoes;
+            return this;
+        }
+
+        public Builder situacao(AccountStatusEnum situacao) {
+            this.situacao = situacao;
+            return this;
+        }
+
+        public Builder mesVencimento(YearMonth mesVencimento) {
+            this.mesVencimento = mesVencimento;
+            return this;
+        }
+
+        public Builder mesPagamento(YearMonth mesPagamento) {
+            this.mesPagamento = mesPagamento;
+            return this;
+        }
+
+        public Builder quantidade(long quantidade) {
+            this.quantidade = quantidade;
+            return this;
+        }
+
+        public Builder valorTotal(BigDecimal valorTotal) {
+            this.valorTotal = valorTotal;
+            return this;
+        }
+
+        public AccountAnalyticsGroupDTO build() {
+            return new AccountAnalyticsGroupDTO(this);
+        }
+    }
+}
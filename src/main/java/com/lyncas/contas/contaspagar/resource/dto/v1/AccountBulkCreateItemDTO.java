@@ -0,0 +1,67 @@
+package com.lyncas.contas.contaspagar.resource.dto.v1;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+public class AccountBulkCreateItemDTO {
+
+    @Schema(description = "Posicao do item no corpo da requisicao, a partir de 0", example = "0")
+    private int indice;
+    @Schema(description = "Id da conta criada; ausente quando o item foi rejeitado", example = "101")
+    private Long id;
+    @Schema(description = "Erros de validacao por campo; ausente quando a conta foi criada",
+            example = "{\"valor\": \"Valor é obrigatório\"}")
+    private Map<String, String> erros;
+
+    public AccountBulkCreateItemDTO() {}
+
+    private AccountBulkCreateItemDTO(Builder builder) {
+        this.indice = builder.indice;
+        this.id = builder.id;
+        this.erros = builder.erros;
+    }
+
+    // Getters
+
+    public int getIndice() {
+        return indice;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Map<String, String> getErros() {
+        return erros;
+    }
+
+    // Builder
+
+    public static class Builder {
+        private int indice;
+        private Long id;
+        private Map<String, String> erros;
+
+        public Builder() {}
+
+        public Builder indice(int indice) {
+            this.indice = indice;
+            return this;
+        }
+
+        public Builder id(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder erros(Map<String, String> erros) {
+            this.erros = erros;
+            return this;
+        }
+
+        public AccountBulkCreateItemDTO build() {
+            return new AccountBulkCreateItemDTO(this);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.lyncas.contas.contaspagar.resource.dto.v1;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public class AccountBulkCreateResultDTO {
+
+    @Schema(description = "Quantidade de contas criadas", example = "2")
+    private int criadas;
+    @Schema(description = "Quantidade de itens nao gravados: rejeitados pela validacao ou perdidos por falha de gravacao", example = "1")
+    private int rejeitadas;
+    @Schema(description = "Motivo da interrupcao (JSON malformado, falha de gravacao ou limite de itens); os blocos gravados antes dela sao mantidos")
+    private String erro;
+    @Schema(description = "Resultado de cada item, na ordem do corpo da requisicao")
+    private List<AccountBulkCreateItemDTO> itens;
+
+    public AccountBulkCreateResultDTO() {}
+
+    private AccountBulkCreateResultDTO(Builder builder) {
+        this.criadas = builder.criadas;
+        this.rejeitadas = builder.rejeitadas;
+        this.erro = builder.erro;
+        this.itens = builder.itens;
+    }
+
+    // Getters
+
+    public int getCriadas() {
+        return criadas;
+    }
+
+    public int getRejeitadas() {
+        return rejeitadas;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+
+    public List<AccountBulkCreateItemDTO> getItens() {
+        return itens;
+    }
+
+    // Builder
+
+    public static class Builder {
+        private int criadas;
+        private int rejeitadas;
+        private String erro;
+        private List<AccountBulkCreateItemDTO> itens;
+
+        public Builder() {}
+
+        public Builder criadas(int criadas) {
+            this.criadas = criadas;
+            return this;
+        }
+
+        public Builder rejeitadas(int rejeitadas) {
+            this.rejeitadas = rejeitadas;
+            return this;
+        }
+
+        public Builder erro(String erro) {
+            this.erro = erro;
+            return this;
+        }
+
+        public Builder itens(List<AccountBulkCreateItemDTO> itens) {
+            this.itens = itens;
+            return this;
+        }
+
+        public AccountBulkCreateResultDTO build() {
+            return new AccountBulkCreateResultDTO(this);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.lyncas.contas.contaspagar.resource.dto.v1;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class AccountBulkStatusDTO {
+
+    public static final int MAX_IDS = 50000;
+
+    @NotNull(message = "Situacao é obrigatória")
+    @Schema(description = "Nova situação das contas", example = "PAGA", allowableValues = {"PENDENTE", "PAGA", "CANCELADA"})
+    private AccountStatusEnum situacao;
+
+    @Schema(description = "Data de pagamento, apenas para a situacao PAGA; sem ela, as contas mantem a sua, como na alteracao de uma conta",
+            example = "2025-01-10")
+    private LocalDate dataPagamento;
+
+    @Size(max = MAX_IDS, message = "Lista de ids com mais de " + MAX_IDS + " ids")
+    @Schema(description = "Ids das contas, ate " + MAX_IDS + " contando os repetidos; alternativa ao filtro por periodo e situacao atual",
+            example = "[1, 2, 3]")
+    private List<@NotNull(message = "Id nulo na lista de ids") Long> ids;
+
+    @Schema(description = "Inicio do periodo de vencimento do filtro", example = "2025-01-01")
+    private LocalDate startDate;
+
+    @Schema(description = "Fim do periodo de vencimento do filtro", example = "2025-01-31")
+    private LocalDate endDate;
+
+    @Schema(description = "Situação atual das contas do filtro", example = "PENDENTE", allowableValues = {"PENDENTE", "PAGA", "CANCELADA"})
+    private AccountStatusEnum situacaoAtual;
+
+    public AccountBulkStatusDTO() {}
+
+    public AccountStatusEnum getSituacao() {
+        return situacao;
+    }
+
+    public void setSituacao(AccountStatusEnum situacao) {
+        this.situacao = situacao;
+    }
+
+    public LocalDate getDataPagamento() {
+        return dataPagamento;
+    }
+
+    public void setDataPagamento(LocalDate dataPagamento) {
+        this.dataPagamento = dataPagamento;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public AccountStatusEnum getSituacaoAtual() {
+        return situacaoAtual;
+    }
+
+    public void setSituacaoAtual(AccountStatusEnum situacaoAtual) {
+        this.situacaoAtual = situacaoAtual;
+    }
+}
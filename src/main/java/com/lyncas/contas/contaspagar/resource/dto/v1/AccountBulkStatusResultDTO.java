@@ -0,0 +1,65 @@
+package com.lyncas.contas.contaspagar.resource.dto.v1;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class AccountBulkStatusResultDTO {
+
+    @Schema(description = "Situação aplicada", example = "PAGA")
+    private AccountStatusEnum situacao;
+    @Schema(description = "Quantidade de contas alteradas; as que ja estavam na situacao nao sao contadas", example = "1200")
+    private int atualizadas;
+    @Schema(description = "Quantidade de comandos UPDATE executados", example = "2")
+    private int comandos;
+
+    public AccountBulkStatusResultDTO() {}
+
+    private AccountBulkStatusResultDTO(Builder builder) {
+        this.situacao = builder.situacao;
+        this.atualizadas = builder.atualizadas;
+        this.comandos = builder.comandos;
+    }
+
+    // Getters
+
+    public AccountStatusEnum getSituacao() {
+        return situacao;
+    }
+
+    public int getAtualizadas() {
+        return atualizadas;
+    }
+
+    public int getComandos() {
+        return comandos;
+    }
+
+    // Builder
+
+    public static class Builder {
+        private AccountStatusEnum situacao;
+        private int atualizadas;
+        private int comandos;
+
+        public Builder() {}
+
+        public Builder situacao(AccountStatusEnum situacao) {
+            this.situacao = situacao;
+            return this;
+        }
+
+        public Builder atualizadas(int atualizadas) {
+            this.atualizadas = atualizadas;
+            return this;
+        }
+
+        public Builder comandos(int comandos) {
+            this.comandos = comandos;
+            return this;
+        }
+
+        public AccountBulkStatusResultDTO build() {
+            return new AccountBulkStatusResultDTO(this);
+        }
+    }
+}
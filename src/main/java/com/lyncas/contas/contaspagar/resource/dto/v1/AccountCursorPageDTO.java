@@ -0,0 +1,64 @@
+package com.lyncas.contas.contaspagar.resource.dto.v1;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public class AccountCursorPageDTO {
+
+    private List<AccountDTO> content;
+    @Schema(description = "Cursor da proxima pagina; ausente na ultima pagina", example = "MjAyNS0wMS0xNTo0MjE")
+    private String nextCursor;
+    private int size;
+
+    public AccountCursorPageDTO() {}
+
+    private AccountCursorPageDTO(Builder builder) {
+        this.content = builder.content;
+        this.nextCursor = builder.nextCursor;
+        this.size = builder.size;
+    }
+
+    // Getters
+
+    public List<AccountDTO> getContent() {
+        return content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    // Builder
+
+    public static class Builder {
+        private List<AccountDTO> content;
+        private String nextCursor;
+        private int size;
+
+        public Builder() {}
+
+        public Builder content(List<AccountDTO> content) {
+            this.content = content;
+            return this;
+        }
+
+        public Builder nextCursor(String nextCursor) {
+            this.nextCursor = nextCursor;
+            return this;
+        }
+
+        public Builder size(int size) {
+            this.size = size;
+            return this;
+        }
+
+        public AccountCursorPageDTO build() {
+            return new AccountCursorPageDTO(this);
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.lyncas.contas.contaspagar.resource.dto.v1;
 
 import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -19,9 +21,11 @@ public class AccountDTO {
     private LocalDate dataPagamento;
 
     @NotNull(message = "Valor é obrigatório")
+    @Digits(integer = 13, fraction = 2, message = "Valor deve ter no máximo 13 dígitos inteiros e 2 decimais")
     private BigDecimal valor;
 
     @NotBlank(message = "Descrição é obrigatória")
+    @Size(max = 255, message = "Descrição com mais de 255 caracteres")
     private String descricao;
 
     @NotNull(message = "Situação é obrigatória")
@@ -34,6 +38,21 @@ public class AccountDTO {
     // Constructors
     public AccountDTO() {}
 
+    /**
+     * Usado pelas consultas de leitura que projetam direto no DTO (SELECT new ...), sem carregar a entidade.
+     */
+    public AccountDTO(Long id, LocalDate dataVencimento, LocalDate dataPagamento, BigDecimal valor, String descricao,
+                      AccountStatusEnum situacao, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.dataVencimento = dataVencimento;
+        this.dataPagamento = dataPagamento;
+        this.valor = valor;
+        this.descricao = descricao;
+        this.situacao = situacao;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     private AccountDTO(Builder builder) {
         this.id = builder.id;
         this.dataVencimento = builder.dataVencimento;
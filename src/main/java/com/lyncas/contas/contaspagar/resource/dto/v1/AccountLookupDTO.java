@@ -0,0 +1,29 @@
+package com.lyncas.contas.contaspagar.resource.dto.v1;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class AccountLookupDTO {
+
+    public static final int MAX_IDS = 5000;
+
+    @NotEmpty(message = "Lista de ids é obrigatória")
+    @Size(max = MAX_IDS, message = "Lista de ids com mais de " + MAX_IDS + " ids")
+    @Schema(description = "Ids das contas, ate " + MAX_IDS + " contando os repetidos; repetidos sao buscados uma vez",
+            example = "[1, 2, 51]")
+    private List<@NotNull(message = "Id nulo na lista de ids") Long> ids;
+
+    public AccountLookupDTO() {}
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
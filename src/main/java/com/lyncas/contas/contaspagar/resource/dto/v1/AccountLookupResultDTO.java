@@ -0,0 +1,53 @@
+package com.lyncas.contas.contaspagar.resource.dto.v1;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public class AccountLookupResultDTO {
+
+    @Schema(description = "Contas encontradas, ordenadas por id")
+    private List<AccountDTO> contas;
+    @Schema(description = "Ids pedidos que nao existem, na ordem do pedido", example = "[51]")
+    private List<Long> naoEncontrados;
+
+    public AccountLookupResultDTO() {}
+
+    private AccountLookupResultDTO(Builder builder) {
+        this.contas = builder.contas;
+        this.naoEncontrados = builder.naoEncontrados;
+    }
+
+    // Getters
+
+    public List<AccountDTO> getContas() {
+        return contas;
+    }
+
+    public List<Long> getNaoEncontrados() {
+        return naoEncontrados;
+    }
+
+    // Builder
+
+    public static class Builder {
+        private List<AccountDTO> contas;
+        private List<Long> naoEncontrados;
+
+        public Builder() {}
+
+        public Builder contas(List<AccountDTO> contas) {
+            this.contas = contas;
+            return this;
+        }
+
+        public Builder naoEncontrados(List<Long> naoEncontrados) {
+            this.naoEncontrados = naoEncontrados;
+            return this;
+        }
+
+        public AccountLookupResultDTO build() {
+            return new AccountLookupResultDTO(this);
+        }
+    }
+}
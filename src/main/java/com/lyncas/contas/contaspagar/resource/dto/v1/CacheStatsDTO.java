@@ -0,0 +1,88 @@
+package com.lyncas.contas.contaspagar.resource.dto.v1;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class CacheStatsDTO {
+
+    @Schema(description = "Nome do cache", example = "total-pago")
+    private String name;
+    @Schema(description = "Resultados guardados no momento")
+    private int size;
+    private long hits;
+    private long misses;
+    @Schema(description = "Resultados descartados por tamanho ou expiracao")
+    private long evictions;
+
+    public CacheStatsDTO() {}
+
+    private CacheStatsDTO(Builder builder) {
+        this.name = builder.name;
+        this.size = builder.size;
+        this.hits = builder.hits;
+        this.misses = builder.misses;
+        this.evictions = builder.evictions;
+    }
+
+    // Getters
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    // Builder
+
+    public static class Builder {
+        private String name;
+        private int size;
+        private long hits;
+        private long misses;
+        private long evictions;
+
+        public Builder() {}
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder size(int size) {
+            this.size = size;
+            return this;
+        }
+
+        public Builder hits(long hits) {
+            this.hits = hits;
+            return this;
+        }
+
+        public Builder misses(long misses) {
+            this.misses = misses;
+            return this;
+        }
+
+        public Builder evictions(long evictions) {
+            this.evictions = evictions;
+            return this;
+        }
+
+        public CacheStatsDTO build() {
+            return new CacheStatsDTO(this);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.lyncas.contas.contaspagar.resource.dto.v1;
+
+import com.lyncas.contas.contaspagar.domain.enums.ImportEngineEnum;
+import com.lyncas.contas.contaspagar.domain.enums.ImportJobStatusEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class ImportJobDTO {
+
+    private UUID jobId;
+    @Schema(description = "Situação da importação", example = "PROCESSANDO", allowableValues = {"AGUARDANDO", "PROCESSANDO", "CONCLUIDA", "FALHOU"})
+    private ImportJobStatusEnum status;
+    private String fileName;
+    private ImportEngineEnum engine;
+    private boolean dedup;
+    private long rowsRead;
+    private long rowsParsed;
+    private long rowsPersisted;
+    private long rowsSkipped;
+    private long rowsDuplicated;
+    private int chunksInFlight;
+    private int chunksCompleted;
+    private long rowsPerSecond;
+    private long elapsedMillis;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String failure;
+    private List<ImportStageDTO> stages;
+
+    public ImportJobDTO() {}
+
+    private ImportJobDTO(Builder builder) {
+        this.jobId = builder.jobId;
+        this.status = builder.status;
+        this.fileName = builder.fileName;
+        this.engine = builder.engine;
+        this.dedup = builder.dedup;
+        this.rowsRead = builder.rowsRead;
+        this.rowsParsed = builder.rowsParsed;
+        this.rowsPersisted = builder.rowsPersisted;
+        this.rowsSkipped = builder.rowsSkipped;
+        this.rowsDuplicated = builder.rowsDuplicated;
+        this.chunksInFlight = builder.chunksInFlight;
+        this.chunksCompleted = builder.chunksCompleted;
+        this.rowsPerSecond = builder.rowsPerSecond;
+        this.elapsedMillis = builder.elapsedMillis;
+        this.createdAt = builder.createdAt;
+        this.startedAt = builder.startedAt;
+        this.finishedAt = builder.finishedAt;
+        this.failure = builder.failure;
+        this.stages = builder.stages;
+    }
+
+    // Getters
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public ImportJobStatusEnum getStatus() {
+        return status;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public ImportEngineEnum getEngine() {
+        return engine;
+    }
+
+    public boolean isDedup() {
+        return dedup;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getRowsParsed() {
+        return rowsParsed;
+    }
+
+    public long getRowsPersisted() {
+        return rowsPersisted;
+    }
+
+    public long getRowsSkipped() {
+        return rowsSkipped;
+    }
+
+    public long getRowsDuplicated() {
+        return rowsDuplicated;
+    }
+
+    public int getChunksInFlight() {
+        return chunksInFlight;
+    }
+
+    public int getChunksCompleted() {
+        return chunksCompleted;
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public List<ImportStageDTO> getStages() {
+        return stages;
+    }
+
+    // Builder
+
+    public static class Builder {
+        private UUID jobId;
+        private ImportJobStatusEnum status;
+        private String fileName;
+        private ImportEngineEnum engine;
+        private boolean dedup;
+        private long rowsRead;
+        private long rowsParsed;
+        private long rowsPersisted;
+        private long rowsSkipped;
+        private long rowsDuplicated;
+        private int chunksInFlight;
+        private int chunksCompleted;
+        private long rowsPerSecond;
+        private long elapsedMillis;
+        private LocalDateTime createdAt;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+        private String failure;
+        private List<ImportStageDTO> stages;
+
+        public Builder() {}
+
+        public Builder jobId(UUID jobId) {
+            this.jobId = jobId;
+            return this;
+        }
+
+        public Builder status(ImportJobStatusEnum status) {
+            this.status = status;
+            return this;
+        }
+
+        public Builder fileName(String fileName) {
+            this.fileName = fileName;
+            return this;
+        }
+
+        public Builder engine(ImportEngineEnum engine) {
+            this.engine = engine;
+            return this;
+        }
+
+        public Builder dedup(boolean dedup) {
+            this.dedup = dedup;
+            return this;
+        }
+
+        public Builder rowsRead(long rowsRead) {
+            this.rowsRead = rowsRead;
+            return this;
+        }
+
+        public Builder rowsParsed(long rowsParsed) {
+            this.rowsParsed = rowsParsed;
+            return this;
+        }
+
+        public Builder rowsPersisted(long rowsPersisted) {
+            this.rowsPersisted = rowsPersisted;
+            return this;
+        }
+
+        public Builder rowsSkipped(long rowsSkipped) {
+            this.rowsSkipped = rowsSkipped;
+            return this;
+        }
+
+        public Builder rowsDuplicated(long rowsDuplicated) {
+            this.rowsDuplicated = rowsDuplicated;
+            return this;
+        }
+
+        public Builder chunksInFlight(int chunksInFlight) {
+            this.chunksInFlight = chunksInFlight;
+            return this;
+        }
+
+        public Builder chunksCompleted(int chunksCompleted) {
+            this.chunksCompleted = chunksCompleted;
+            return this;
+        }
+
+        public Builder rowsPerSecond(long rowsPerSecond) {
+            this.rowsPerSecond = rowsPerSecond;
+            return this;
+        }
+
+        public Builder elapsedMillis(long elapsedMillis) {
+            this.elapsedMillis = elapsedMillis;
+            return this;
+        }
+
+        public Builder createdAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder startedAt(LocalDateTime startedAt) {
+            this.startedAt = startedAt;
+            return this;
+        }
+
+        public Builder finishedAt(LocalDateTime finishedAt) {
+            this.finishedAt = finishedAt;
+            return this;
+        }
+
+        public Builder failure(String failure) {
+            this.failure = failure;
+            return this;
+        }
+
+        public Builder stages(List<ImportStageDTO> stages) {
+            this.stages = stages;
+            return this;
+        }
+
+        public ImportJobDTO build() {
+            return new ImportJobDTO(this);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.lyncas.contas.contaspagar.resource.dto.v1;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class ImportStageDTO {
+
+    @Schema(description = "Estágio da importação", example = "parse", allowableValues = {"read", "parse", "write"})
+    private String name;
+    private int workers;
+    @Schema(description = "Chunks aguardando na fila de entrada do estágio")
+    private int queueDepth;
+    private int queueCapacity;
+    private long chunks;
+    private long rows;
+    private long rowsPerSecond;
+    @Schema(description = "Percentual do tempo em que os workers do estágio estiveram ocupados; perto de 100 indica o gargalo", example = "87")
+    private long busyPercent;
+
+    public ImportStageDTO() {}
+
+    private ImportStageDTO(Builder builder) {
+        this.name = builder.name;
+        this.workers = builder.workers;
+        this.queueDepth = builder.queueDepth;
+        this.queueCapacity = builder.queueCapacity;
+        this.chunks = builder.chunks;
+        this.rows = builder.rows;
+        this.rowsPerSecond = builder.rowsPerSecond;
+        this.busyPercent = builder.busyPercent;
+    }
+
+    // Getters
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getChunks() {
+        return chunks;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public long getBusyPercent() {
+        return busyPercent;
+    }
+
+    // Builder
+
+    public static class Builder {
+        private String name;
+        private int workers;
+        private int queueDepth;
+        private int queueCapacity;
+        private long chunks;
+        private long rows;
+        private long rowsPerSecond;
+        private long busyPercent;
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder workers(int workers) {
+            this.workers = workers;
+            return this;
+        }
+
+        public Builder queueDepth(int queueDepth) {
+            this.queueDepth = queueDepth;
+            return this;
+        }
+
+        public Builder queueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public Builder chunks(long chunks) {
+            this.chunks = chunks;
+            return this;
+        }
+
+        public Builder rows(long rows) {
+            this.rows = rows;
+            return this;
+        }
+
+        public Builder rowsPerSecond(long rowsPerSecond) {
+            this.rowsPerSecond = rowsPerSecond;
+            return this;
+        }
+
+        public Builder busyPercent(long busyPercent) {
+            this.busyPercent = busyPercent;
+            return this;
+        }
+
+        public ImportStageDTO build() {
+            return new ImportStageDTO(this);
+        }
+    }
+}
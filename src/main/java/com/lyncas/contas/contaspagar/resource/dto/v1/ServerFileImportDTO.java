@@ -0,0 +1,44 @@
+package com.lyncas.contas.contaspagar.resource.dto.v1;
+
+import com.lyncas.contas.contaspagar.domain.enums.ImportEngineEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+public class ServerFileImportDTO {
+
+    @NotBlank(message = "Caminho do arquivo é obrigatório")
+    @Schema(description = "Caminho do arquivo, relativo ao diretorio de importacao do servidor", example = "fornecedores/2025-01.csv")
+    private String path;
+
+    @Schema(description = "Engine de importacao; quando ausente usa a configurada", example = "COPY", allowableValues = {"JPA", "COPY"})
+    private ImportEngineEnum engine;
+
+    @Schema(description = "Descarta linhas cuja chave natural (vencimento, valor, descricao, situacao) ja existe; quando ausente usa a configuracao", example = "true")
+    private Boolean dedup;
+
+    public ServerFileImportDTO() {}
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public ImportEngineEnum getEngine() {
+        return engine;
+    }
+
+    public void setEngine(ImportEngineEnum engine) {
+        this.engine = engine;
+    }
+
+    public Boolean getDedup() {
+        return dedup;
+    }
+
+    public void setDedup(Boolean dedup) {
+        this.dedup = dedup;
+    }
+}
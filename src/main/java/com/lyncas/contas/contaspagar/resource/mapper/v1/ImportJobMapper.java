@@ -0,0 +1,53 @@
+package com.lyncas.contas.contaspagar.resource.mapper.v1;
+
+import com.lyncas.contas.contaspagar.resource.dto.v1.ImportJobDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.ImportStageDTO;
+import com.lyncas.contas.contaspagar.service.ImportJob;
+import com.lyncas.contas.contaspagar.service.ImportStageMetrics;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ImportJobMapper {
+
+    public ImportJobDTO toDTO(ImportJob job) {
+        if (job == null) {
+            return null;
+        }
+
+        return new ImportJobDTO.Builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .fileName(job.getFileName())
+                .engine(job.getEngine())
+                .dedup(job.isDedup())
+                .rowsRead(job.getRowsRead())
+                .rowsParsed(job.getRowsParsed())
+                .rowsPersisted(job.getRowsPersisted())
+                .rowsSkipped(job.getRowsSkipped())
+                .rowsDuplicated(job.getRowsDuplicated())
+                .chunksInFlight(job.getChunksInFlight())
+                .chunksCompleted(job.getChunksCompleted())
+                .rowsPerSecond(job.getRowsPerSecond())
+                .elapsedMillis(job.getElapsedMillis())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .failure(job.getFailure())
+                .stages(job.getStages().stream().map(stage -> toDTO(stage, job.getElapsedMillis())).toList())
+                .build();
+    }
+
+    private ImportStageDTO toDTO(ImportStageMetrics stage, long elapsedMillis) {
+        long elapsed = Math.max(1, elapsedMillis);
+        return new ImportStageDTO.Builder()
+                .name(stage.getName())
+                .workers(stage.getWorkers())
+                .queueDepth(stage.getQueueDepth())
+                .queueCapacity(stage.getQueueCapacity())
+                .chunks(stage.getChunks())
+                .rows(stage.getRows())
+                .rowsPerSecond(stage.getRows() * 1000L / elapsed)
+                .busyPercent(Math.min(100, stage.getBusyMillis() * 100L / (elapsed * Math.max(1, stage.getWorkers()))))
+                .build();
+    }
+}
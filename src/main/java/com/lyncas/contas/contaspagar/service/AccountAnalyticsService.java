@@ -0,0 +1,42 @@
+package com.lyncas.contas.contaspagar.service;
+
+import com.lyncas.contas.contaspagar.domain.repository.AccountAnalyticsRepository;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountAnalyticsGroupDTO;
+import com.lyncas.contas.contaspagar.service.cache.AccountReadCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Totais e quantidades das contas de um periodo de vencimento agrupados por situacao, mes de vencimento e mes de
+ * pagamento, e por cada combinacao dessas dimensoes, calculados pelo banco em uma unica consulta.
+ */
+@Service
+public class AccountAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountAnalyticsService.class);
+
+    private final AccountAnalyticsRepository accountAnalyticsRepository;
+    private final AccountReadCache accountReadCache;
+
+    public AccountAnalyticsService(AccountAnalyticsRepository accountAnalyticsRepository, AccountReadCache accountReadCache) {
+        this.accountAnalyticsRepository = accountAnalyticsRepository;
+        this.accountReadCache = accountReadCache;
+    }
+
+    public List<AccountAnalyticsGroupDTO> getAnalytics(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Data inicial " + startDate + " posterior a data final " + endDate);
+        }
+        return accountReadCache.analytics(startDate, endDate, () -> {
+            long start = System.nanoTime();
+            List<AccountAnalyticsGroupDTO> groups = List.copyOf(accountAnalyticsRepository.groupByDataVencimento(startDate, endDate));
+            logger.debug("Analise de {} a {}: {} grupos em {} ms", startDate, endDate, groups.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+            return groups;
+        });
+    }
+}
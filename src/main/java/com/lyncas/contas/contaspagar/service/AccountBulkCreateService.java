@@ -0,0 +1,237 @@
+package com.lyncas.contas.contaspagar.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.lyncas.contas.contaspagar.domain.model.Account;
+import com.lyncas.contas.contaspagar.domain.repository.AccountBatchRepository;
+import com.lyncas.contas.contaspagar.domain.repository.AccountIdAllocator;
+import com.lyncas.contas.contaspagar.exception.ImportAccountException;
+import com.lyncas.contas.contaspagar.exception.SituacaoException;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountBulkCreateItemDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountBulkCreateResultDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import com.lyncas.contas.contaspagar.resource.mapper.v1.AccountMapper;
+import com.lyncas.contas.contaspagar.service.cache.AccountReadCache;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Criacao de contas em lote a partir de um array JSON ou de NDJSON (uma conta por linha), lido em streaming.
+ * Cada item e validado com as mesmas regras do cadastro individual; os validos sao gravados em blocos pelo mesmo
+ * caminho da importacao (insert em batch com ids do {@link AccountIdAllocator}, limitado pelo {@link ImportThrottle}),
+ * e cada bloco e gravado na sua propria transacao.
+ */
+@Service
+public class AccountBulkCreateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountBulkCreateService.class);
+
+    public static final int MAX_BULK_CREATE_ITEMS = 50_000;
+
+    private static final String WRITE_FAILED = "Nao gravado: falha na gravacao do bloco";
+    private static final String NOT_PROCESSED = "Nao processado: criacao interrompida por falha de gravacao";
+
+    private final AccountBatchRepository accountBatchRepository;
+    private final AccountIdAllocator accountIdAllocator;
+    private final AccountMapper accountMapper;
+    private final AccountReadCache accountReadCache;
+    private final ImportThrottle importThrottle;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader nodeReader;
+    private final Validator validator;
+
+    public AccountBulkCreateService(AccountBatchRepository accountBatchRepository,
+                                    AccountIdAllocator accountIdAllocator,
+                                    AccountMapper accountMapper,
+                                    AccountReadCache accountReadCache,
+                                    ImportThrottle importThrottle,
+                                    ObjectMapper objectMapper,
+                                    Validator validator) {
+        this.accountBatchRepository = accountBatchRepository;
+        this.accountIdAllocator = accountIdAllocator;
+        this.accountMapper = accountMapper;
+        this.accountReadCache = accountReadCache;
+        this.importThrottle = importThrottle;
+        this.objectMapper = objectMapper;
+        this.nodeReader = objectMapper.readerFor(JsonNode.class);
+        this.validator = validator;
+    }
+
+    /**
+     * Le os itens do corpo, um por vez, e grava os validos em blocos de {@link ImportThrottle#chunkSize()} contas.
+     * A leitura para no primeiro JSON malformado, na primeira falha de gravacao ou ao atingir
+     * {@link #MAX_BULK_CREATE_ITEMS} itens; o motivo volta em erro. Os blocos ja gravados continuam gravados e os
+     * seus ids voltam no resultado; os itens do bloco que falhou e os lidos depois da falha voltam com erro.
+     */
+    public AccountBulkCreateResultDTO create(InputStream body) throws IOException {
+        long start = System.nanoTime();
+        var items = new ArrayList<AccountBulkCreateItemDTO>();
+        var pending = new PendingChunk();
+        String failure = null;
+        boolean writeFailed = false;
+
+        try (MappingIterator<JsonNode> nodes = nodeReader.readValues(body)) {
+            while (nodes.hasNextValue()) {
+                int index = items.size();
+                if (index >= MAX_BULK_CREATE_ITEMS) {
+                    failure = "Limite de " + MAX_BULK_CREATE_ITEMS + " itens por requisicao: os itens a partir do indice "
+                            + index + " nao foram lidos";
+                    break;
+                }
+                JsonNode node = nodes.nextValue();
+                if (writeFailed) {
+                    items.add(notWritten(index, NOT_PROCESSED));
+                    continue;
+                }
+                Map<String, String> errors = new TreeMap<>();
+                AccountDTO accountDTO = convert(node, errors);
+                if (accountDTO != null) {
+                    for (ConstraintViolation<AccountDTO> violation : validator.validate(accountDTO)) {
+                        errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+                    }
+                }
+                if (!errors.isEmpty()) {
+                    items.add(new AccountBulkCreateItemDTO.Builder().indice(index).erros(errors).build());
+                    continue;
+                }
+                items.add(null);
+                pending.add(index, accountMapper.toEntity(accountDTO));
+                if (pending.size() >= importThrottle.chunkSize()) {
+                    failure = write(pending, items);
+                    writeFailed = failure != null;
+                }
+            }
+        } catch (JsonProcessingException e) {
+            failure = writeFailed ? failure : "JSON invalido depois do item " + items.size() + ": " + e.getOriginalMessage();
+        }
+        if (!writeFailed) {
+            String writeFailure = write(pending, items);
+            failure = writeFailure != null ? writeFailure : failure;
+        }
+        if (failure != null) {
+            logger.warn("Criacao em lote interrompida: {}", failure);
+        }
+
+        int created = 0;
+        int rejected = 0;
+        for (AccountBulkCreateItemDTO item : items) {
+            if (item.getId() != null) {
+                created++;
+            } else {
+                rejected++;
+            }
+        }
+        logger.info("Criacao em lote: {} contas criadas e {} itens nao gravados em {} ms", created, rejected,
+                (System.nanoTime() - start) / 1_000_000);
+        return new AccountBulkCreateResultDTO.Builder()
+                .criadas(created)
+                .rejeitadas(rejected)
+                .erro(failure)
+                .itens(items)
+                .build();
+    }
+
+    private AccountDTO convert(JsonNode node, Map<String, String> errors) {
+        if (!node.isObject()) {
+            errors.put("item", "Item deve ser um objeto JSON");
+            return null;
+        }
+        try {
+            return objectMapper.treeToValue(node, AccountDTO.class);
+        } catch (JsonProcessingException e) {
+            String field = e instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()
+                    && mapping.getPath().get(0).getFieldName() != null
+                    ? mapping.getPath().get(0).getFieldName()
+                    : "item";
+            errors.put(field, e.getCause() instanceof SituacaoException situacao ? situacao.getMessage() : "Valor invalido");
+            return null;
+        }
+    }
+
+    /**
+     * Grava o bloco pendente e preenche o id de cada item; se a gravacao falhar, os itens do bloco recebem o erro.
+     *
+     * @return a mensagem da falha, ou null se o bloco foi gravado
+     */
+    private String write(PendingChunk pending, List<AccountBulkCreateItemDTO> items) {
+        if (pending.size() == 0) {
+            return null;
+        }
+        try {
+            importThrottle.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImportAccountException("Criacao em lote interrompida", e);
+        }
+        long[] ids;
+        try {
+            long start = System.nanoTime();
+            ids = accountIdAllocator.reserve(pending.size());
+            accountBatchRepository.insertAll(pending.accounts, ids);
+            importThrottle.onChunkCommitted(System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            logger.error("Falha ao gravar bloco de {} contas da criacao em lote", pending.size(), e);
+            for (int index : pending.indexes) {
+                items.set(index, notWritten(index, WRITE_FAILED));
+            }
+            String failure = "Falha ao gravar o bloco que comeca no item " + pending.indexes.get(0)
+                    + ": os itens seguintes nao foram gravados";
+            pending.clear();
+            return failure;
+        } finally {
+            importThrottle.release();
+        }
+
+        Set<LocalDate> dates = new HashSet<>();
+        for (int i = 0; i < pending.size(); i++) {
+            Account account = pending.accounts.get(i);
+            dates.add(account.getDataVencimento());
+            dates.add(account.getDataPagamento());
+            int index = pending.indexes.get(i);
+            items.set(index, new AccountBulkCreateItemDTO.Builder().indice(index).id(ids[i]).build());
+        }
+        accountReadCache.invalidate(dates.toArray(new LocalDate[0]));
+        pending.clear();
+        return null;
+    }
+
+    private static AccountBulkCreateItemDTO notWritten(int index, String message) {
+        return new AccountBulkCreateItemDTO.Builder().indice(index).erros(Map.of("item", message)).build();
+    }
+
+    private static final class PendingChunk {
+        private final List<Integer> indexes = new ArrayList<>();
+        private final List<Account> accounts = new ArrayList<>();
+
+        void add(int index, Account account) {
+            indexes.add(index);
+            accounts.add(account);
+        }
+
+        int size() {
+            return accounts.size();
+        }
+
+        void clear() {
+            indexes.clear();
+            accounts.clear();
+        }
+    }
+}
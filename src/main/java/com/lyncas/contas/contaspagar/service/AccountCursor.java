@@ -0,0 +1,30 @@
+package com.lyncas.contas.contaspagar.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posicao de uma listagem paginada por (data_vencimento, id): a proxima pagina comeca na primeira conta
+ * depois desse par. Trafega como texto opaco (base64 url-safe) para que o cliente nao dependa do formato.
+ */
+public record AccountCursor(LocalDate dataVencimento, long id) {
+
+    private static final char SEPARATOR = ':';
+
+    public String encode() {
+        String value = dataVencimento.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static AccountCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = value.indexOf(SEPARATOR);
+            return new AccountCursor(LocalDate.parse(value.substring(0, separator)), Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor invalido: " + cursor);
+        }
+    }
+}
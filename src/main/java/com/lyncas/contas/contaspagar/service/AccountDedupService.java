@@ -0,0 +1,107 @@
+package com.lyncas.contas.contaspagar.service;
+
+import com.lyncas.contas.contaspagar.domain.model.AccountNaturalKey;
+import com.lyncas.contas.contaspagar.domain.repository.AccountDedupRepository;
+import com.lyncas.contas.contaspagar.infrastructure.config.ImportProperties;
+import com.lyncas.contas.contaspagar.service.csv.AccountCsvParser;
+import com.lyncas.contas.contaspagar.service.csv.AccountCsvRow;
+import com.lyncas.contas.contaspagar.service.csv.CsvLines;
+import com.lyncas.contas.contaspagar.service.dedup.AccountDedupFilter;
+import com.lyncas.contas.contaspagar.service.dedup.BloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Deduplicacao da importacao pela chave natural (vencimento, valor, descricao, situacao). As chaves das
+ * contas existentes no periodo do arquivo sao carregadas uma vez em um filtro de Bloom; o banco so e
+ * consultado para confirmar as linhas que o filtro aponta como possivelmente existentes.
+ */
+@Service
+public class AccountDedupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountDedupService.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final AccountDedupRepository accountDedupRepository;
+    private final ImportProperties importProperties;
+
+    public AccountDedupService(AccountDedupRepository accountDedupRepository, ImportProperties importProperties) {
+        this.accountDedupRepository = accountDedupRepository;
+        this.importProperties = importProperties;
+    }
+
+    public AccountDedupFilter newFilter() {
+        var bloomFilter = new BloomFilter(importProperties.getDedupExpectedRows(), FALSE_POSITIVE_RATE);
+        logger.debug("Filtro de deduplicacao criado com {} bits e {} hashes", bloomFilter.bitCount(), bloomFilter.hashCount());
+        return new AccountDedupFilter(bloomFilter, LocalDateTime.now());
+    }
+
+    /**
+     * Retorna as posicoes, dentro das linhas informadas, das contas que ja existem no banco.
+     */
+    public BitSet findDuplicates(CsvLines lines, AccountDedupFilter filter) {
+        var row = new AccountCsvRow();
+        long[] hashes = new long[lines.size()];
+        long[] days = {Long.MAX_VALUE, Long.MIN_VALUE};
+        int[] position = {0};
+        lines.forEach(line -> {
+            AccountCsvParser.parse(line, row);
+            hashes[position[0]++] = hash64(row);
+            days[0] = Math.min(days[0], row.getDataVencimentoEpochDay());
+            days[1] = Math.max(days[1], row.getDataVencimentoEpochDay());
+        });
+
+        var duplicates = new BitSet(hashes.length);
+        if (hashes.length == 0) {
+            return duplicates;
+        }
+
+        filter.ensureLoaded(days[0], days[1], this::loadHashes);
+
+        List<AccountNaturalKey> candidates = new ArrayList<>();
+        int[] candidatePositions = new int[hashes.length];
+        position[0] = 0;
+        lines.forEach(line -> {
+            int current = position[0]++;
+            if (filter.mightContain(hashes[current])) {
+                AccountCsvParser.parse(line, row);
+                candidatePositions[candidates.size()] = current;
+                candidates.add(new AccountNaturalKey(row.getDataVencimentoEpochDay(), row.getValorCentavos(),
+                        row.getDescricao(), row.getSituacao()));
+            }
+        });
+        if (candidates.isEmpty()) {
+            return duplicates;
+        }
+
+        var existing = accountDedupRepository.findExisting(candidates, filter.getCreatedBefore());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (existing.contains(candidates.get(i))) {
+                duplicates.set(candidatePositions[i]);
+            }
+        }
+        logger.debug("{} candidatas a duplicidade, {} confirmadas no banco", candidates.size(), duplicates.cardinality());
+        return duplicates;
+    }
+
+    private long loadHashes(LocalDate startDate, LocalDate endDate, LocalDateTime createdBefore,
+                            LongConsumer hashes) {
+        long loaded = accountDedupRepository.forEachKey(startDate, endDate, createdBefore, key -> hashes.accept(key.hash64()));
+        logger.info("Deduplicacao: {} contas existentes carregadas para vencimentos de {} a {}", loaded, startDate, endDate);
+        return loaded;
+    }
+
+    private static long hash64(AccountCsvRow row) {
+        return AccountNaturalKey.hash64(row.getDataVencimentoEpochDay(), row.getValorCentavos(),
+                row.descricaoHashCode(), row.getSituacao());
+    }
+}
@@ -0,0 +1,82 @@
+package com.lyncas.contas.contaspagar.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.lyncas.contas.contaspagar.domain.enums.ExportFormatEnum;
+import com.lyncas.contas.contaspagar.domain.repository.AccountExportRepository;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exportacao das contas de um periodo de vencimento, escrita no stream de saida a medida que as linhas chegam
+ * do banco: a memoria usada nao depende do tamanho do periodo. O CSV tem o mesmo formato aceito pela importacao;
+ * o NDJSON tem um {@link AccountDTO} por linha, serializado como na API.
+ */
+@Service
+public class AccountExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountExportService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final AccountExportRepository accountExportRepository;
+    private final ObjectWriter ndjsonWriter;
+
+    public AccountExportService(AccountExportRepository accountExportRepository, ObjectMapper objectMapper) {
+        this.accountExportRepository = accountExportRepository;
+        // Sem o separador padrao (espaco) entre valores raiz: cada conta termina com sua propria quebra de linha
+        this.ndjsonWriter = objectMapper.writerFor(AccountDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+    }
+
+    /**
+     * Validacao feita antes de iniciar a resposta: depois do primeiro byte enviado nao ha como retornar um erro.
+     */
+    public void checkPeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Data inicial " + startDate + " posterior a data final " + endDate);
+        }
+    }
+
+    public long export(LocalDate startDate, LocalDate endDate, ExportFormatEnum format, OutputStream outputStream) throws IOException {
+        checkPeriod(startDate, endDate);
+        long start = System.nanoTime();
+        var out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        long rows = switch (format) {
+            case CSV -> accountExportRepository.copyOutCsv(startDate, endDate, out);
+            case NDJSON -> writeNdjson(startDate, endDate, out);
+        };
+        out.flush();
+        logger.info("Exportacao {} de {} a {}: {} contas em {} ms", format, startDate, endDate, rows,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return rows;
+    }
+
+    private long writeNdjson(LocalDate startDate, LocalDate endDate, OutputStream out) throws IOException {
+        try (JsonGenerator generator = ndjsonWriter.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            long rows = accountExportRepository.forEachByDataVencimento(startDate, endDate, account -> {
+                try {
+                    ndjsonWriter.writeValue(generator, account);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.flush();
+            return rows;
+        }
+    }
+}
@@ -1,19 +1,45 @@
 package com.lyncas.contas.contaspagar.service;
 
 import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.domain.enums.ImportCheckpointTypeEnum;
+import com.lyncas.contas.contaspagar.domain.enums.ImportEngineEnum;
+import com.lyncas.contas.contaspagar.domain.enums.ImportJobStatusEnum;
 import com.lyncas.contas.contaspagar.domain.model.Account;
+import com.lyncas.contas.contaspagar.domain.model.ImportManifest;
+import com.lyncas.contas.contaspagar.domain.repository.AccountBatchRepository;
+import com.lyncas.contas.contaspagar.domain.repository.AccountBulkRepository;
+import com.lyncas.contas.contaspagar.domain.repository.AccountCopyRepository;
+import com.lyncas.contas.contaspagar.domain.repository.AccountIdAllocator;
 import com.lyncas.contas.contaspagar.domain.repository.AccountRepository;
+import com.lyncas.contas.contaspagar.domain.repository.AccountStagingRepository;
 import com.lyncas.contas.contaspagar.exception.AccountNotFoundException;
 import com.lyncas.contas.contaspagar.exception.ImportAccountException;
+import com.lyncas.contas.contaspagar.infrastructure.config.ImportProperties;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountBulkStatusDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountBulkStatusResultDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountCursorPageDTO;
 import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountLookupDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountLookupResultDTO;
 import com.lyncas.contas.contaspagar.resource.dto.v1.AlterStatusDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.CacheStatsDTO;
 import com.lyncas.contas.contaspagar.resource.mapper.v1.AccountMapper;
+import com.lyncas.contas.contaspagar.service.cache.AccountReadCache;
+import com.lyncas.contas.contaspagar.service.csv.AccountCopyEncoder;
+import com.lyncas.contas.contaspagar.service.csv.AccountCsvParser;
+import com.lyncas.contas.contaspagar.service.csv.AccountCsvRow;
+import com.lyncas.contas.contaspagar.service.csv.ByteRange;
+import com.lyncas.contas.contaspagar.service.csv.CsvLines;
+import com.lyncas.contas.contaspagar.service.csv.MappedCsvFile;
+import com.lyncas.contas.contaspagar.service.dedup.AccountDedupFilter;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -21,13 +47,24 @@ import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 @Service
 public class AccountService {
@@ -36,20 +73,51 @@ public class AccountService {
 
     public static final int SKIP_FIRST_LINE_HEADER = 1;
     public static final String ACCOUNT_NOT_FOUND_WITH_ID = "Conta a pagar nao encontrada com o ID: ";
-    public static final int MAX_ELEMENTS_OF_SUBLIST = 5000;
-
-    private static final int MAX_CONCURRENT_TASKS = 10;
+    public static final int MAX_CURSOR_PAGE_SIZE = 1000;
 
     private final AccountRepository accountRepository;
+    private final AccountBatchRepository accountBatchRepository;
+    private final AccountCopyRepository accountCopyRepository;
+    private final AccountStagingRepository accountStagingRepository;
+    private final AccountBulkRepository accountBulkRepository;
+    private final AccountIdAllocator accountIdAllocator;
     private final AccountMapper accountMapper;
+    private final AccountReadCache accountReadCache;
+    private final ImportCheckpointService importCheckpointService;
+    private final AccountDedupService accountDedupService;
+    private final ImportThrottle importThrottle;
+    private final ImportProperties importProperties;
     private final TaskExecutor taskExecutor;
+    private final TaskExecutor parseExecutor;
 
     public AccountService(AccountRepository accountRepository,
+                          AccountBatchRepository accountBatchRepository,
+                          AccountCopyRepository accountCopyRepository,
+                          AccountStagingRepository accountStagingRepository,
+                          AccountBulkRepository accountBulkRepository,
+                          AccountIdAllocator accountIdAllocator,
                           AccountMapper accountMapper,
-                          @Qualifier("importExecutor") TaskExecutor taskExecutor) {
+                          AccountReadCache accountReadCache,
+                          ImportCheckpointService importCheckpointService,
+                          AccountDedupService accountDedupService,
+                          ImportThrottle importThrottle,
+                          ImportProperties importProperties,
+                          @Qualifier("importExecutor") TaskExecutor taskExecutor,
+                          @Qualifier("importParseExecutor") TaskExecutor parseExecutor) {
         this.accountRepository = accountRepository;
+        this.accountBatchRepository = accountBatchRepository;
+        this.accountCopyRepository = accountCopyRepository;
+        this.accountStagingRepository = accountStagingRepository;
+        this.accountBulkRepository = accountBulkRepository;
+        this.accountIdAllocator = accountIdAllocator;
+        this.importCheckpointService = importCheckpointService;
+        this.accountDedupService = accountDedupService;
+        this.importThrottle = importThrottle;
+        this.importProperties = importProperties;
         this.accountMapper = accountMapper;
+        this.accountReadCache = accountReadCache;
         this.taskExecutor = taskExecutor;
+        this.parseExecutor = parseExecutor;
     }
 
     @Transactional
@@ -57,6 +125,7 @@ public class AccountService {
         logger.debug("Iniciando criação de nova conta: {}", accountDTO.getDescricao());
         var account = accountMapper.toEntity(accountDTO);
         var savedAccount = accountRepository.save(account);
+        accountReadCache.invalidate(savedAccount.getDataVencimento(), savedAccount.getDataPagamento());
         logger.info("Conta criada com ID: {}", savedAccount.getId());
         return accountMapper.toDTO(savedAccount);
     }
@@ -66,6 +135,9 @@ public class AccountService {
         logger.debug("Iniciando update de conta ID: {}", id);
         var existingAccount = accountRepository.findById(id)
                 .orElseThrow(() -> new AccountNotFoundException(ACCOUNT_NOT_FOUND_WITH_ID + id));
+        accountReadCache.invalidate(existingAccount.getDataVencimento(), existingAccount.getDataPagamento(),
+                accountDTO.getDataVencimento(), accountDTO.getDataPagamento());
+        accountReadCache.evict(id);
 
         existingAccount.setDataVencimento(accountDTO.getDataVencimento());
         existingAccount.setDataPagamento(accountDTO.getDataPagamento());
@@ -86,104 +158,519 @@ public class AccountService {
 
         account.setSituacao(alterStatusDTO.getSituacao());
         accountRepository.save(account);
+        accountReadCache.invalidate(account.getDataVencimento(), account.getDataPagamento());
+        accountReadCache.evict(id);
 
         logger.info("Conta ID: {} situacao alterada para {}", id, alterStatusDTO.getSituacao());
         return accountMapper.toDTO(account);
     }
 
+    /**
+     * Altera a situacao de varias contas, por lista de ids ou por periodo de vencimento e situacao atual, com um
+     * UPDATE por bloco de {@link AccountBulkRepository#UPDATE_CHUNK_SIZE} contas. Cada bloco e gravado na sua
+     * propria transacao, como na importacao; repetir a requisicao depois de uma falha completa as contas restantes.
+     */
+    public AccountBulkStatusResultDTO changeStatusInBulk(AccountBulkStatusDTO request) {
+        AccountStatusEnum situacao = request.getSituacao();
+        if (request.getDataPagamento() != null && situacao != AccountStatusEnum.PAGA) {
+            throw new IllegalArgumentException("Data de pagamento so pode ser informada para a situacao PAGA");
+        }
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean byFilter = request.getStartDate() != null || request.getEndDate() != null || request.getSituacaoAtual() != null;
+        if (byIds == byFilter) {
+            throw new IllegalArgumentException("Informe a lista de ids ou o filtro startDate, endDate e situacaoAtual");
+        }
+
+        long start = System.nanoTime();
+        var result = byIds
+                ? changeStatusByIds(request.getIds(), situacao, request.getDataPagamento())
+                : changeStatusByFilter(request.getStartDate(), request.getEndDate(), request.getSituacaoAtual(), situacao,
+                        request.getDataPagamento());
+        logger.info("Situacao de {} contas alterada para {} em {} comandos, {} ms", result.getAtualizadas(), situacao,
+                result.getComandos(), (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    private AccountBulkStatusResultDTO changeStatusByIds(List<Long> ids, AccountStatusEnum situacao, LocalDate dataPagamento) {
+        if (ids.size() > AccountBulkStatusDTO.MAX_IDS) {
+            throw new IllegalArgumentException("Quantidade de ids deve ser no maximo " + AccountBulkStatusDTO.MAX_IDS);
+        }
+        // Ids em ordem: blocos e travas sempre na mesma ordem, evitando deadlock entre requisicoes concorrentes
+        Long[] distinct = new TreeSet<>(ids).toArray(new Long[0]);
+        int updated = 0;
+        int statements = 0;
+        for (int from = 0; from < distinct.length; from += AccountBulkRepository.UPDATE_CHUNK_SIZE) {
+            Long[] chunk = Arrays.copyOfRange(distinct, from, Math.min(from + AccountBulkRepository.UPDATE_CHUNK_SIZE, distinct.length));
+            updated += statusChanged(accountBulkRepository.updateStatusByIds(chunk, situacao, dataPagamento));
+            statements++;
+        }
+        return new AccountBulkStatusResultDTO.Builder()
+                .situacao(situacao)
+                .atualizadas(updated)
+                .comandos(statements)
+                .build();
+    }
+
+    private AccountBulkStatusResultDTO changeStatusByFilter(LocalDate startDate, LocalDate endDate, AccountStatusEnum situacaoAtual,
+                                                            AccountStatusEnum situacao, LocalDate dataPagamento) {
+        if (startDate == null || endDate == null || situacaoAtual == null) {
+            throw new IllegalArgumentException("Filtro exige startDate, endDate e situacaoAtual");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Data inicial " + startDate + " posterior a data final " + endDate);
+        }
+        if (situacaoAtual == situacao) {
+            throw new IllegalArgumentException("Situacao atual e nova situacao devem ser diferentes");
+        }
+        int updated = 0;
+        int statements = 0;
+        long afterId = 0;
+        while (true) {
+            List<AccountBulkRepository.StatusChange> changes = accountBulkRepository.updateStatusByFilter(startDate,
+                    endDate, situacaoAtual, afterId, AccountBulkRepository.UPDATE_CHUNK_SIZE, situacao, dataPagamento);
+            statements++;
+            if (changes.isEmpty()) {
+                // O LIMIT vem antes do FOR UPDATE: linhas alteradas por outra transacao saem do bloco depois do corte,
+                // entao um bloco vazio nao garante que o periodo acabou. So para quando nao resta conta na situacao atual.
+                Optional<Long> firstRemaining = accountBulkRepository.findFirstIdByFilter(startDate, endDate, situacaoAtual);
+                if (firstRemaining.isEmpty()) {
+                    break;
+                }
+                afterId = firstRemaining.get() - 1;
+                continue;
+            }
+            for (AccountBulkRepository.StatusChange change : changes) {
+                afterId = Math.max(afterId, change.id());
+            }
+            updated += statusChanged(changes);
+        }
+        return new AccountBulkStatusResultDTO.Builder()
+                .situacao(situacao)
+                .atualizadas(updated)
+                .comandos(statements)
+                .build();
+    }
+
+    private int statusChanged(List<AccountBulkRepository.StatusChange> changes) {
+        Set<LocalDate> dates = new HashSet<>();
+        for (AccountBulkRepository.StatusChange change : changes) {
+            dates.add(change.dataVencimento());
+            dates.add(change.dataPagamentoAnterior());
+            dates.add(change.dataPagamento());
+            accountReadCache.evict(change.id());
+        }
+        if (!changes.isEmpty()) {
+            accountReadCache.invalidate(dates.toArray(new LocalDate[0]));
+        }
+        return changes.size();
+    }
+
     public Page<AccountDTO> listByDataVencimentoAndDescricao(LocalDate startDate, LocalDate endDate, String descricao, Pageable pageable) {
+        return listByDataVencimentoAndDescricao(startDate, endDate, descricao, false, pageable);
+    }
+
+    /**
+     * Com relevancia, as contas cuja descricao mais se aproxima do termo vem primeiro e a ordenacao pedida
+     * no Pageable e ignorada; sem termo de busca nao ha relevancia e vale a ordenacao do Pageable.
+     */
+    public Page<AccountDTO> listByDataVencimentoAndDescricao(LocalDate startDate, LocalDate endDate, String descricao,
+                                                             boolean relevancia, Pageable pageable) {
+        return accountReadCache.page(startDate, endDate, descricao, relevancia, pageable,
+                () -> searchByDataVencimentoAndDescricao(startDate, endDate, descricao, relevancia, pageable));
+    }
+
+    private Page<AccountDTO> searchByDataVencimentoAndDescricao(LocalDate startDate, LocalDate endDate, String descricao,
+                                                                boolean relevancia, Pageable pageable) {
         logger.debug("Listando contas a pagar entre datas {} ate {}, descricao '{}'", startDate, endDate, descricao);
-        Page<Account> accounts = accountRepository.findByDataVencimentoBetweenAndDescricaoContainingIgnoreCase(
-                startDate, endDate, descricao, pageable
-        );
-        return accounts.map(accountMapper::toDTO);
+        if (relevancia && descricao != null && !descricao.isBlank()) {
+            Pageable unsorted = pageable.isPaged()
+                    ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+                    : Pageable.unpaged();
+            return accountRepository.searchByDataVencimentoAndDescricaoOrderByRelevance(startDate, endDate, descricao,
+                    containsPattern(descricao), unsorted);
+        }
+        return accountRepository.searchByDataVencimentoAndDescricao(startDate, endDate, containsPattern(descricao), pageable);
+    }
+
+    /**
+     * Variante por cursor da listagem: ordena por (data_vencimento, id) e continua depois do cursor recebido.
+     * Busca uma conta alem do tamanho pedido apenas para saber se ha proxima pagina.
+     */
+    public AccountCursorPageDTO listByDataVencimentoAndDescricaoAfter(LocalDate startDate, LocalDate endDate, String descricao,
+                                                                      String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("Tamanho da pagina deve estar entre 1 e " + MAX_CURSOR_PAGE_SIZE);
+        }
+        AccountCursor after = cursor != null && !cursor.isBlank()
+                ? AccountCursor.decode(cursor)
+                : new AccountCursor(startDate, 0);
+        logger.debug("Listando contas a pagar entre datas {} ate {}, descricao '{}', depois de {}", startDate, endDate, descricao, after);
+
+        List<AccountDTO> accounts = accountRepository.findPageAfter(startDate, endDate, containsPattern(descricao),
+                after.dataVencimento(), after.id(), Limit.of(size + 1));
+        boolean hasNext = accounts.size() > size;
+        List<AccountDTO> content = accounts.subList(0, Math.min(size, accounts.size()));
+        String nextCursor = null;
+        if (hasNext) {
+            AccountDTO last = content.get(content.size() - 1);
+            nextCursor = new AccountCursor(last.getDataVencimento(), last.getId()).encode();
+        }
+        return new AccountCursorPageDTO.Builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .size(size)
+                .build();
+    }
+
+    private static String containsPattern(String descricao) {
+        String escaped = descricao == null ? "" : descricao
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
     }
 
     public AccountDTO getAccountById(Long id) {
-        logger.debug("Obtendo conta por id: {}", id);
-        var account = accountRepository.findById(id)
-                .orElseThrow(() -> new AccountNotFoundException(ACCOUNT_NOT_FOUND_WITH_ID + id));
-        return accountMapper.toDTO(account);
+        return accountReadCache.account(id, () -> {
+            logger.debug("Obtendo conta por id: {}", id);
+            return accountRepository.findDTOById(id)
+                    .orElseThrow(() -> new AccountNotFoundException(ACCOUNT_NOT_FOUND_WITH_ID + id));
+        });
+    }
+
+    /**
+     * Busca varias contas por id em uma unica consulta (id = ANY(?)). O limite conta os ids como enviados, mas
+     * ids repetidos sao buscados uma vez; os ids sem conta voltam em naoEncontrados, na ordem do pedido.
+     */
+    public AccountLookupResultDTO lookup(List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > AccountLookupDTO.MAX_IDS) {
+            throw new IllegalArgumentException("Quantidade de ids deve estar entre 1 e " + AccountLookupDTO.MAX_IDS);
+        }
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        logger.debug("Buscando {} contas por id", requested.size());
+
+        List<AccountDTO> accounts = accountBulkRepository.findAllByIds(requested.toArray(new Long[0]));
+        for (AccountDTO account : accounts) {
+            requested.remove(account.getId());
+        }
+        return new AccountLookupResultDTO.Builder()
+                .contas(accounts)
+                .naoEncontrados(new ArrayList<>(requested))
+                .build();
     }
 
     public BigDecimal getTotalPaid(LocalDate startDate, LocalDate endDate) {
-        logger.debug("Calcula valor pago no periodo {} ate {}", startDate, endDate);
-        BigDecimal totalPaid = accountRepository.sumValorByDataPagamento(startDate, endDate);
-        logger.info("Total pago periodo {} a {}: {}", startDate, endDate, totalPaid);
-        return totalPaid;
+        return accountReadCache.totalPaid(startDate, endDate, () -> {
+            logger.debug("Calcula valor pago no periodo {} ate {}", startDate, endDate);
+            BigDecimal totalPaid = accountRepository.sumValorByDataPagamento(startDate, endDate);
+            logger.info("Total pago periodo {} a {}: {}", startDate, endDate, totalPaid);
+            return totalPaid;
+        });
+    }
+
+    public List<CacheStatsDTO> getCacheStats() {
+        return accountReadCache.stats();
     }
 
-    @Transactional
     public void importAccounts(InputStream inputStream) {
-        Semaphore semaphore = new Semaphore(MAX_CONCURRENT_TASKS);
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
-        AtomicInteger totalInsertedAccounts = new AtomicInteger(0);
+        importAccounts(inputStream, null);
+    }
+
+    public void importAccounts(InputStream inputStream, ImportEngineEnum engine) {
+        processImport(inputStream, new ImportJob(null, engine != null ? engine : importProperties.getEngine(), null,
+                importProperties.isDedup()));
+    }
+
+    public void processImport(InputStream inputStream, ImportJob job) {
+        processImport(inputStream, job, job.getFileHash(), job.getFileName());
+    }
+
+    /**
+     * Importa um CSV com manifesto identificado por fileHash; um mesmo job pode importar varios CSVs
+     * (ex.: as entradas de um zip), acumulando os contadores.
+     * <p>
+     * Sem @Transactional: cada chunk grava e faz checkpoint na sua propria transacao, e o manifesto
+     * precisa estar commitado antes que os chunks o referenciem. Esta thread e o estagio de leitura do
+     * {@link ImportPipeline}; o tamanho de cada chunk e lido do {@link ImportThrottle} quando o chunk e aberto.
+     * <p>
+     * Com a engine STAGING os chunks sao carregados sem validacao em uma tabela de staging, e as linhas so
+     * chegam a conta no merge final, validado em SQL e feito em uma unica transacao.
+     */
+    public void processImport(InputStream inputStream, ImportJob job, String fileHash, String fileName) {
+        logger.info("Importando contas de {} com engine {}", fileName, job.getEngine());
+        ImportManifest manifest = fileHash != null
+                ? importCheckpointService.begin(fileHash, fileName, ImportCheckpointTypeEnum.LINHAS, importThrottle.chunkSize())
+                : null;
+        NavigableMap<Long, Integer> committedLines = manifest != null
+                ? importCheckpointService.committedLines(manifest)
+                : Collections.emptyNavigableMap();
+        boolean staging = job.getEngine() == ImportEngineEnum.STAGING;
+        AccountDedupFilter dedupFilter = job.isDedup() && !staging ? accountDedupService.newFilter() : null;
+        LocalDateTime createdBefore = LocalDateTime.now();
+        String stagingTable = staging ? accountStagingRepository.createTable() : null;
+        NavigableMap<Long, Integer> stagedLines = staging ? new TreeMap<>() : null;
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
+        ImportPipeline<ImportChunk> pipeline = newPipeline(job, chunk -> staging
+                ? prepareStagingChunk(chunk, job, stagingTable)
+                : prepareChunk(chunk, job, manifest, dedupFilter));
+        long startTime = System.nanoTime();
+        long totalLines = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            pipeline.start(parseExecutor, taskExecutor);
             String line = reader.readLine();
 
-            List<String> chunk = new ArrayList<>(MAX_ELEMENTS_OF_SUBLIST);
+            int firstChunkIndex = manifest != null ? importCheckpointService.nextChunkIndex(manifest) : 0;
+            int chunkIndex = firstChunkIndex;
+            int chunkSize = importThrottle.chunkSize();
+            List<String> chunk = new ArrayList<>(chunkSize);
+            long firstLine = 1;
             while ((line = reader.readLine()) != null) {
+                long lineNumber = ++totalLines;
+                if (isCommitted(committedLines, lineNumber)) {
+                    if (!chunk.isEmpty()) {
+                        submitChunk(pipeline, new ImportChunk(chunkIndex++, firstLine, chunk), job, stagedLines);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                    job.addRowsRead(1);
+                    job.addRowsSkipped(1);
+                    continue;
+                }
+
+                if (chunk.isEmpty()) {
+                    firstLine = lineNumber;
+                }
                 chunk.add(line);
-                if (chunk.size() == MAX_ELEMENTS_OF_SUBLIST) {
-                    semaphore.acquire();
-
-                    List<String> chunkToProcess = new ArrayList<>(chunk);
-                    CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                        try {
-                            logger.info("Processando sublista de tamanho {}", chunkToProcess.size());
-                            processChunk(chunkToProcess);
-                            totalInsertedAccounts.addAndGet(chunkToProcess.size());
-                        } finally {
-                            semaphore.release();
-                        }
-                    }, taskExecutor);
-                    futures.add(future);
-                    chunk.clear();
+                if (chunk.size() >= chunkSize) {
+                    submitChunk(pipeline, new ImportChunk(chunkIndex++, firstLine, chunk), job, stagedLines);
+                    chunkSize = importThrottle.chunkSize();
+                    chunk = new ArrayList<>(chunkSize);
                 }
             }
 
             if (!chunk.isEmpty()) {
-                semaphore.acquire();
-                List<String> chunkToProcess = new ArrayList<>(chunk);
-                CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                    try {
-                        logger.info("Processando sublista de tamanho {}", chunkToProcess.size());
-                        processChunk(chunkToProcess);
-                        totalInsertedAccounts.addAndGet(chunkToProcess.size());
-                    } finally {
-                        semaphore.release();
-                    }
-                }, taskExecutor);
-                futures.add(future);
+                submitChunk(pipeline, new ImportChunk(chunkIndex, firstLine, chunk), job, stagedLines);
+            }
+
+            pipeline.finish();
+
+            if (staging) {
+                mergeStaging(stagingTable, stagedLines, firstChunkIndex, job, manifest, createdBefore);
             }
 
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            if (manifest != null) {
+                importCheckpointService.finish(manifest, ImportJobStatusEnum.CONCLUIDA, totalLines);
+            }
 
-            logger.info("Total de {} contas a pagar importadas do CSV", totalInsertedAccounts.get());
+            long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+            logger.info("Total de {} contas a pagar importadas do CSV em {} ms ({} linhas/s), {} ja importadas anteriormente, {} duplicadas",
+                    job.getRowsPersisted(), elapsedMillis, job.getRowsPersisted() * 1000L / elapsedMillis, job.getRowsSkipped(),
+                    job.getRowsDuplicated());
+            logStages(job);
 
         } catch (Exception e) {
+            pipeline.abort(e);
+            if (manifest != null) {
+                importCheckpointService.finish(manifest, ImportJobStatusEnum.FALHOU, totalLines);
+            }
             throw new ImportAccountException("Erro ao importar contas a pagar: " + e.getMessage(), e);
+        } finally {
+            if (stagingTable != null) {
+                accountStagingRepository.dropTable(stagingTable);
+            }
         }
     }
 
-    @Transactional
-    public void processChunk(List<String> chunk) {
-        List<Account> accounts = chunk.stream()
-                .map(this::mapLineToAccount)
-                .collect(Collectors.toList());
-        accountRepository.saveAllAndFlush(accounts);
-    }
-
-    private Account mapLineToAccount(String line) {
-        var fields = line.split(",");
-        return new Account.Builder()
-                .dataVencimento(LocalDate.parse(fields[0]))
-                .dataPagamento(fields[1].isEmpty() ? null : LocalDate.parse(fields[1]))
-                .valor(new BigDecimal(fields[2]))
-                .descricao(fields[3])
-                .situacao(AccountStatusEnum.valueOf(fields[4]))
-                .build();
+    private static boolean isCommitted(NavigableMap<Long, Integer> committedLines, long lineNumber) {
+        var range = committedLines.floorEntry(lineNumber);
+        return range != null && lineNumber < range.getKey() + range.getValue();
+    }
+
+    private void submitChunk(ImportPipeline<ImportChunk> pipeline, ImportChunk chunk, ImportJob job,
+                             NavigableMap<Long, Integer> stagedLines) throws InterruptedException {
+        job.addRowsRead(chunk.size());
+        if (stagedLines != null) {
+            addLineRange(stagedLines, chunk.firstLine(), chunk.size());
+        }
+        pipeline.submit(chunk, chunk.size());
+    }
+
+    private static void addLineRange(NavigableMap<Long, Integer> lineRanges, long firstLine, int size) {
+        var last = lineRanges.lastEntry();
+        if (last != null && last.getKey() + last.getValue() == firstLine) {
+            lineRanges.put(last.getKey(), last.getValue() + size);
+        } else {
+            lineRanges.put(firstLine, size);
+        }
+    }
+
+    /**
+     * Move a tabela de staging para conta. Com manifesto, as faixas de linhas carregadas sao registradas
+     * na mesma transacao do merge.
+     */
+    private void mergeStaging(String stagingTable, NavigableMap<Long, Integer> stagedLines, int firstChunkIndex,
+                              ImportJob job, ImportManifest manifest, LocalDateTime createdBefore) {
+        long stagedRows = stagedLines.values().stream().mapToLong(Integer::longValue).sum();
+        if (stagedRows == 0) {
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        LongSupplier merge = () -> accountStagingRepository.merge(stagingTable, stagedRows, job.isDedup() ? createdBefore : null);
+        long merged = manifest != null
+                ? importCheckpointService.commitStaged(manifest, firstChunkIndex, stagedLines, merge)
+                : merge.getAsLong();
+        accountReadCache.invalidateAll();
+        job.chunkPersisted(Math.toIntExact(merged));
+        job.addRowsDuplicated(Math.toIntExact(stagedRows - merged));
+        logger.info("Staging {}: {} linhas validadas, {} contas gravadas em conta em {} ms",
+                stagingTable, stagedRows, merged, (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    /**
+     * Importa um CSV ja presente no disco do servidor. O arquivo e mapeado em memoria e dividido em faixas
+     * alinhadas a linhas; o estagio de leitura so distribui as faixas, que sao decodificadas e validadas
+     * em paralelo no estagio de parse.
+     */
+    public void processServerFile(Path file, ImportJob job) {
+        logger.info("Importando contas do arquivo {} com engine {}", file, job.getEngine());
+        AccountDedupFilter dedupFilter = job.isDedup() ? accountDedupService.newFilter() : null;
+        ImportManifest manifest = null;
+        ImportPipeline<ByteRange> pipeline = null;
+        long startTime = System.nanoTime();
+
+        try (var csvFile = MappedCsvFile.open(file)) {
+            manifest = job.getFileHash() != null
+                    ? importCheckpointService.begin(job.getFileHash(), job.getFileName(), ImportCheckpointTypeEnum.FAIXAS_BYTES,
+                            importProperties.getServerFileRangeBytes())
+                    : null;
+            Set<Integer> committedRanges = manifest != null ? importCheckpointService.committedChunks(manifest) : Set.of();
+            int rangeBytes = manifest != null ? manifest.getChunkSize() : importProperties.getServerFileRangeBytes();
+
+            ImportManifest rangeManifest = manifest;
+            pipeline = newPipeline(job, range -> prepareRange(csvFile, range, job, rangeManifest, dedupFilter));
+            pipeline.start(parseExecutor, taskExecutor);
+            for (ByteRange range : csvFile.split(rangeBytes)) {
+                if (committedRanges.contains(range.index())) {
+                    logger.debug("Faixa {} ja gravada em importacao anterior, ignorando", range.index());
+                    continue;
+                }
+                pipeline.submit(range, 0);
+            }
+            pipeline.finish();
+
+            if (manifest != null) {
+                importCheckpointService.finish(manifest, ImportJobStatusEnum.CONCLUIDA, job.getRowsRead());
+            }
+
+            long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+            logger.info("Total de {} contas a pagar importadas de {} em {} ms ({} linhas/s)",
+                    job.getRowsPersisted(), file, elapsedMillis, job.getRowsPersisted() * 1000L / elapsedMillis);
+            logStages(job);
+
+        } catch (Exception e) {
+            if (pipeline != null) {
+                pipeline.abort(e);
+            }
+            if (manifest != null) {
+                importCheckpointService.finish(manifest, ImportJobStatusEnum.FALHOU, job.getRowsRead());
+            }
+            throw new ImportAccountException("Erro ao importar contas a pagar: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Cada chunk gravado em conta invalida o cache de leitura; os chunks da tabela de staging nao.
+     */
+    private <T> ImportPipeline<T> newPipeline(ImportJob job, Function<T, ChunkWrite> parser) {
+        var pipeline = importProperties.getPipeline();
+        Function<T, ChunkWrite> invalidatingParser = parser.andThen(write -> write.rows() == 0 ? write
+                : new ChunkWrite(write.lines(), write.rows(), () -> {
+                    write.write().run();
+                    accountReadCache.invalidateAll();
+                }));
+        return new ImportPipeline<>(job, importThrottle, invalidatingParser, pipeline.parseWorkerCount(),
+                importThrottle.getMaxConcurrentChunks(), pipeline.getQueueCapacity());
+    }
+
+    private void logStages(ImportJob job) {
+        for (ImportStageMetrics stage : job.getStages()) {
+            logger.info("Estagio {}: {} chunks, {} linhas, {} ms ocupado em {} workers",
+                    stage.getName(), stage.getChunks(), stage.getRows(), stage.getBusyMillis(), stage.getWorkers());
+        }
+    }
+
+    private ChunkWrite prepareChunk(ImportChunk chunk, ImportJob job, ImportManifest manifest, AccountDedupFilter dedupFilter) {
+        var write = prepareWrite(CsvLines.of(chunk.lines()), job, dedupFilter);
+        if (manifest == null) {
+            return write;
+        }
+        return new ChunkWrite(write.lines(), write.rows(), () -> importCheckpointService.commitChunk(manifest, chunk, write.write()));
+    }
+
+    /**
+     * Prefixa cada linha com o seu numero, usado na ordem dos ids e nas mensagens de validacao, sem interpretar
+     * os campos: o COPY separa as colunas e o merge valida.
+     */
+    private ChunkWrite prepareStagingChunk(ImportChunk chunk, ImportJob job, String stagingTable) {
+        StringBuilder csvRows = new StringBuilder(chunk.size() * 96);
+        long lineNumber = chunk.firstLine();
+        for (String line : chunk.lines()) {
+            csvRows.append(lineNumber++).append(',').append(line).append('\n');
+        }
+        job.chunkParsed(chunk.size());
+        return new ChunkWrite(chunk.size(), 0, () -> accountStagingRepository.copyIn(stagingTable, csvRows));
+    }
+
+    private ChunkWrite prepareRange(MappedCsvFile csvFile, ByteRange range, ImportJob job, ImportManifest manifest,
+                                    AccountDedupFilter dedupFilter) {
+        var lines = csvFile.lines(range);
+        job.addRowsRead(lines.size());
+        var write = prepareWrite(lines, job, dedupFilter);
+        if (manifest == null) {
+            return write;
+        }
+        return new ChunkWrite(write.lines(), write.rows(),
+                () -> importCheckpointService.commitRange(manifest, range, write.lines(), write.write()));
+    }
+
+    private ChunkWrite prepareWrite(CsvLines lines, ImportJob job, AccountDedupFilter dedupFilter) {
+        BitSet duplicates = dedupFilter != null ? accountDedupService.findDuplicates(lines, dedupFilter) : new BitSet();
+        job.addRowsDuplicated(duplicates.cardinality());
+        return job.getEngine() == ImportEngineEnum.COPY
+                ? prepareCopy(lines, duplicates, job)
+                : prepareBatchInsert(lines, duplicates, job);
+    }
+
+    private ChunkWrite prepareBatchInsert(CsvLines lines, BitSet duplicates, ImportJob job) {
+        var row = new AccountCsvRow();
+        List<Account> accounts = new ArrayList<>(lines.size() - duplicates.cardinality());
+        int[] position = {0};
+        lines.forEach(line -> {
+            if (!duplicates.get(position[0]++)) {
+                AccountCsvParser.parse(line, row);
+                accounts.add(row.toAccount());
+            }
+        });
+        job.chunkParsed(accounts.size());
+        return new ChunkWrite(lines.size(), accounts.size(), () -> accountBatchRepository.insertAll(accounts));
+    }
+
+    private ChunkWrite prepareCopy(CsvLines lines, BitSet duplicates, ImportJob job) {
+        int rows = lines.size() - duplicates.cardinality();
+        long[] ids = accountIdAllocator.reserve(rows);
+        String now = LocalDateTime.now().toString();
+        StringBuilder csvRows = new StringBuilder(rows * 96);
+        var row = new AccountCsvRow();
+        int[] position = {0, 0};
+        lines.forEach(line -> {
+            if (!duplicates.get(position[0]++)) {
+                AccountCsvParser.parse(line, row);
+                AccountCopyEncoder.appendRow(csvRows, ids[position[1]++], row, now);
+            }
+        });
+        job.chunkParsed(rows);
+        return new ChunkWrite(lines.size(), rows, () -> accountCopyRepository.copyIn(csvRows));
     }
 
 }
@@ -0,0 +1,9 @@
+package com.lyncas.contas.contaspagar.service;
+
+/**
+ * Chunk ja lido e validado, pronto para o estagio de escrita: quantas linhas foram lidas, quantas contas
+ * serao gravadas em conta (descontadas as duplicadas; zero quando a escrita vai para a tabela de staging) e a
+ * escrita em si, incluindo o checkpoint quando houver manifesto.
+ */
+record ChunkWrite(int lines, int rows, Runnable write) {
+}
@@ -0,0 +1,118 @@
+package com.lyncas.contas.contaspagar.service;
+
+import com.lyncas.contas.contaspagar.domain.enums.ImportCheckpointTypeEnum;
+import com.lyncas.contas.contaspagar.domain.enums.ImportJobStatusEnum;
+import com.lyncas.contas.contaspagar.domain.model.ImportManifest;
+import com.lyncas.contas.contaspagar.domain.repository.ImportManifestRepository;
+import com.lyncas.contas.contaspagar.exception.ImportAccountException;
+import com.lyncas.contas.contaspagar.service.csv.ByteRange;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+@Service
+public class ImportCheckpointService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportCheckpointService.class);
+
+    private final ImportManifestRepository importManifestRepository;
+
+    public ImportCheckpointService(ImportManifestRepository importManifestRepository) {
+        this.importManifestRepository = importManifestRepository;
+    }
+
+    /**
+     * Abre ou retoma o manifesto do arquivo. Chunks gravados por linhas nao podem ser retomados por faixas de
+     * bytes, nem o contrario: um manifesto de outro tipo so e reaproveitado se ainda nao tiver chunks gravados.
+     *
+     * @throws ImportAccountException se o arquivo ja tem chunks gravados com outro tipo de checkpoint
+     */
+    @Transactional
+    public ImportManifest begin(String fileHash, String fileName, ImportCheckpointTypeEnum checkpointType, int chunkSize) {
+        var manifest = importManifestRepository.findByFileHash(fileHash)
+                .orElseGet(() -> new ImportManifest(fileHash, fileName, checkpointType, chunkSize));
+        if (manifest.getId() != null && manifest.getCheckpointType() != checkpointType) {
+            if (!importManifestRepository.findCommittedChunkIndexes(manifest.getId()).isEmpty()) {
+                throw new ImportAccountException("Arquivo " + fileName + " ja possui importacao " + manifest.getId()
+                        + " com checkpoints por " + manifest.getCheckpointType() + "; reenvie com a mesma engine para retomar");
+            }
+            logger.info("Importacao {} do arquivo {} sem chunks gravados, reiniciada com checkpoints por {}",
+                    manifest.getId(), fileName, checkpointType);
+            manifest.restart(checkpointType, chunkSize);
+        } else if (manifest.getId() != null) {
+            logger.info("Arquivo {} ja possui importacao {} ({}), retomando a partir dos chunks pendentes",
+                    fileName, manifest.getId(), manifest.getSituacao());
+        }
+        if (manifest.getSituacao() != ImportJobStatusEnum.CONCLUIDA) {
+            manifest.setSituacao(ImportJobStatusEnum.PROCESSANDO);
+        }
+        return importManifestRepository.save(manifest);
+    }
+
+    public Set<Integer> committedChunks(ImportManifest manifest) {
+        return new HashSet<>(importManifestRepository.findCommittedChunkIndexes(manifest.getId()));
+    }
+
+    /**
+     * Faixas de linhas ja gravadas (linha inicial -> quantidade). Como o tamanho dos chunks varia entre
+     * execucoes, a retomada pula linhas, e nao indices de chunk.
+     */
+    public NavigableMap<Long, Integer> committedLines(ImportManifest manifest) {
+        NavigableMap<Long, Integer> committedLines = new TreeMap<>();
+        for (Object[] range : importManifestRepository.findCommittedLineRanges(manifest.getId())) {
+            committedLines.put(((Number) range[0]).longValue(), ((Number) range[1]).intValue());
+        }
+        return committedLines;
+    }
+
+    public int nextChunkIndex(ImportManifest manifest) {
+        return importManifestRepository.findNextChunkIndex(manifest.getId());
+    }
+
+    /**
+     * Executa a escrita do chunk e registra o checkpoint na mesma transacao,
+     * de forma que um chunk marcado como gravado sempre tenha suas contas em conta.
+     */
+    @Transactional
+    public void commitChunk(ImportManifest manifest, ImportChunk chunk, Runnable write) {
+        write.run();
+        importManifestRepository.insertCommittedChunk(manifest.getId(), chunk.index(), chunk.firstLine(), chunk.size());
+    }
+
+    @Transactional
+    public void commitRange(ImportManifest manifest, ByteRange range, int rows, Runnable write) {
+        write.run();
+        importManifestRepository.insertCommittedRange(manifest.getId(), range.index(), range.start(), rows);
+    }
+
+    /**
+     * Executa o merge da tabela de staging e registra as faixas de linhas carregadas na mesma transacao:
+     * ou todas as linhas entram em conta com seus checkpoints, ou nenhuma entra.
+     */
+    @Transactional
+    public long commitStaged(ImportManifest manifest, int firstChunkIndex, NavigableMap<Long, Integer> lineRanges,
+                             LongSupplier merge) {
+        long merged = merge.getAsLong();
+        int index = firstChunkIndex;
+        for (var range : lineRanges.entrySet()) {
+            importManifestRepository.insertCommittedChunk(manifest.getId(), index++, range.getKey(), range.getValue());
+        }
+        return merged;
+    }
+
+    @Transactional
+    public void finish(ImportManifest manifest, ImportJobStatusEnum situacao, long totalLines) {
+        importManifestRepository.findById(manifest.getId()).ifPresent(current -> {
+            current.setSituacao(situacao);
+            current.setTotalLines(totalLines);
+            importManifestRepository.save(current);
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package com.lyncas.contas.contaspagar.service;
+
+import java.util.List;
+
+/**
+ * Bloco de linhas do CSV. O indice e a linha inicial (1 = primeira linha apos o cabecalho)
+ * identificam o chunk no manifesto da importacao.
+ */
+public record ImportChunk(int index, long firstLine, List<String> lines) {
+
+    public int size() {
+        return lines.size();
+    }
+}
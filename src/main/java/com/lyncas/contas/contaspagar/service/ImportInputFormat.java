@@ -0,0 +1,47 @@
+package com.lyncas.contas.contaspagar.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Formato do arquivo recebido para importacao, identificado pelos primeiros bytes do conteudo
+ * (a extensao informada pelo cliente nem sempre e confiavel).
+ */
+public enum ImportInputFormat {
+    CSV,
+    GZIP,
+    ZIP;
+
+    private static final int SIGNATURE_LENGTH = 4;
+
+    /**
+     * Identifica o formato sem consumir o stream, que precisa suportar mark/reset.
+     */
+    public static ImportInputFormat detect(InputStream inputStream) throws IOException {
+        inputStream.mark(SIGNATURE_LENGTH);
+        try {
+            return fromSignature(inputStream.readNBytes(SIGNATURE_LENGTH));
+        } finally {
+            inputStream.reset();
+        }
+    }
+
+    public static ImportInputFormat detect(Path file) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return fromSignature(inputStream.readNBytes(SIGNATURE_LENGTH));
+        }
+    }
+
+    private static ImportInputFormat fromSignature(byte[] signature) {
+        if (signature.length >= 2 && (signature[0] & 0xff) == 0x1f && (signature[1] & 0xff) == 0x8b) {
+            return GZIP;
+        }
+        if (signature.length == SIGNATURE_LENGTH && signature[0] == 'P' && signature[1] == 'K'
+                && signature[2] == 3 && signature[3] == 4) {
+            return ZIP;
+        }
+        return CSV;
+    }
+}
@@ -0,0 +1,199 @@
+package com.lyncas.contas.contaspagar.service;
+
+import com.lyncas.contas.contaspagar.domain.enums.ImportEngineEnum;
+import com.lyncas.contas.contaspagar.domain.enums.ImportJobStatusEnum;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado e progresso de uma importacao. Os contadores sao atualizados pelas threads
+ * do importExecutor e lidos concorrentemente pelo endpoint de status.
+ */
+public class ImportJob {
+
+    private final UUID id;
+    private final String fileName;
+    private final ImportEngineEnum engine;
+    private final String fileHash;
+    private final boolean dedup;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsParsed = new AtomicLong();
+    private final AtomicLong rowsPersisted = new AtomicLong();
+    private final AtomicLong rowsSkipped = new AtomicLong();
+    private final AtomicLong rowsDuplicated = new AtomicLong();
+    private final AtomicInteger chunksInFlight = new AtomicInteger();
+    private final AtomicInteger chunksCompleted = new AtomicInteger();
+
+    private volatile List<ImportStageMetrics> stages = List.of();
+    private volatile ImportJobStatusEnum status = ImportJobStatusEnum.AGUARDANDO;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile long startNanos;
+    private volatile long finishNanos;
+    private volatile String failure;
+
+    public ImportJob(String fileName, ImportEngineEnum engine) {
+        this(fileName, engine, null);
+    }
+
+    public ImportJob(String fileName, ImportEngineEnum engine, String fileHash) {
+        this(fileName, engine, fileHash, false);
+    }
+
+    public ImportJob(String fileName, ImportEngineEnum engine, String fileHash, boolean dedup) {
+        this.id = UUID.randomUUID();
+        this.fileName = fileName;
+        this.engine = engine;
+        this.fileHash = fileHash;
+        this.dedup = dedup;
+    }
+
+    public void start() {
+        this.startNanos = System.nanoTime();
+        this.startedAt = LocalDateTime.now();
+        this.status = ImportJobStatusEnum.PROCESSANDO;
+    }
+
+    public void complete() {
+        finish(ImportJobStatusEnum.CONCLUIDA);
+    }
+
+    public void fail(Throwable cause) {
+        this.failure = cause.getMessage();
+        finish(ImportJobStatusEnum.FALHOU);
+    }
+
+    private void finish(ImportJobStatusEnum finalStatus) {
+        this.finishNanos = System.nanoTime();
+        this.finishedAt = LocalDateTime.now();
+        this.status = finalStatus;
+    }
+
+    public void addRowsRead(int rows) {
+        rowsRead.addAndGet(rows);
+    }
+
+    public void addRowsSkipped(int rows) {
+        rowsSkipped.addAndGet(rows);
+    }
+
+    public void addRowsDuplicated(int rows) {
+        rowsDuplicated.addAndGet(rows);
+    }
+
+    public void chunkStarted() {
+        chunksInFlight.incrementAndGet();
+    }
+
+    public void chunkParsed(int rows) {
+        rowsParsed.addAndGet(rows);
+    }
+
+    public void chunkPersisted(int rows) {
+        rowsPersisted.addAndGet(rows);
+        chunksCompleted.incrementAndGet();
+    }
+
+    public void chunkFinished() {
+        chunksInFlight.decrementAndGet();
+    }
+
+    public boolean isFinished() {
+        return status == ImportJobStatusEnum.CONCLUIDA || status == ImportJobStatusEnum.FALHOU;
+    }
+
+    public long getElapsedMillis() {
+        if (startNanos == 0) {
+            return 0;
+        }
+        long end = isFinished() ? finishNanos : System.nanoTime();
+        return (end - startNanos) / 1_000_000;
+    }
+
+    public long getRowsPerSecond() {
+        long elapsedMillis = getElapsedMillis();
+        return elapsedMillis == 0 ? 0 : rowsPersisted.get() * 1000L / elapsedMillis;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public ImportEngineEnum getEngine() {
+        return engine;
+    }
+
+    public String getFileHash() {
+        return fileHash;
+    }
+
+    void setStages(List<ImportStageMetrics> stages) {
+        this.stages = stages;
+    }
+
+    public List<ImportStageMetrics> getStages() {
+        return stages;
+    }
+
+    public boolean isDedup() {
+        return dedup;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public ImportJobStatusEnum getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public long getRowsRead() {
+        return rowsRead.get();
+    }
+
+    public long getRowsParsed() {
+        return rowsParsed.get();
+    }
+
+    public long getRowsPersisted() {
+        return rowsPersisted.get();
+    }
+
+    public long getRowsSkipped() {
+        return rowsSkipped.get();
+    }
+
+    public long getRowsDuplicated() {
+        return rowsDuplicated.get();
+    }
+
+    public int getChunksInFlight() {
+        return chunksInFlight.get();
+    }
+
+    public int getChunksCompleted() {
+        return chunksCompleted.get();
+    }
+}
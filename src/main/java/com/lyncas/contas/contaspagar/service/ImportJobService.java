@@ -0,0 +1,289 @@
+package com.lyncas.contas.contaspagar.service;
+
+import com.lyncas.contas.contaspagar.domain.enums.ImportEngineEnum;
+import com.lyncas.contas.contaspagar.exception.ImportAccountException;
+import com.lyncas.contas.contaspagar.exception.ImportJobNotFoundException;
+import com.lyncas.contas.contaspagar.infrastructure.config.ImportProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+@Service
+public class ImportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobService.class);
+
+    public static final String IMPORT_JOB_NOT_FOUND_WITH_ID = "Importacao nao encontrada com o ID: ";
+
+    private static final String FILE_HASH_ALGORITHM = "SHA-256";
+    private static final String TEMP_FILE_PREFIX = "importacao-contas-";
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(24);
+    private static final int DECOMPRESS_BUFFER_SIZE = 64 * 1024;
+
+    private final AccountService accountService;
+    private final ImportProperties importProperties;
+    private final TaskExecutor jobExecutor;
+    private final TaskExecutor archiveExecutor;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(AccountService accountService,
+                            ImportProperties importProperties,
+                            @Qualifier("importJobExecutor") TaskExecutor jobExecutor,
+                            @Qualifier("importArchiveExecutor") TaskExecutor archiveExecutor) {
+        this.accountService = accountService;
+        this.importProperties = importProperties;
+        this.jobExecutor = jobExecutor;
+        this.archiveExecutor = archiveExecutor;
+    }
+
+    /**
+     * Copia o conteudo recebido para um arquivo temporario, calculando o hash usado no manifesto da importacao,
+     * e dispara a importacao de forma assincrona. O arquivo temporario e removido ao final do processamento.
+     * Aceita CSV, CSV compactado com gzip ou um zip de CSVs, identificados pelo conteudo.
+     */
+    public ImportJob submit(InputStream content, String fileName, ImportOptions options) throws IOException {
+        purgeFinishedJobs();
+
+        Path file = Files.createTempFile(TEMP_FILE_PREFIX, ".csv");
+        String fileHash;
+        try (var digestStream = new DigestInputStream(content, newFileDigest())) {
+            Files.copy(digestStream, file, StandardCopyOption.REPLACE_EXISTING);
+            fileHash = HexFormat.of().formatHex(digestStream.getMessageDigest().digest());
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+
+        var job = newJob(fileName, options, fileHash);
+        jobs.put(job.getId(), job);
+        logger.info("Importacao {} registrada para o arquivo {}", job.getId(), fileName);
+
+        jobExecutor.execute(() -> run(job, file));
+        return job;
+    }
+
+    /**
+     * Dispara a importacao de um arquivo ja presente no diretorio de importacao do servidor. O manifesto usa
+     * como identidade o hash de caminho, tamanho e data de modificacao, evitando uma leitura extra do arquivo.
+     */
+    public ImportJob submitServerFile(String relativePath, ImportOptions options) throws IOException {
+        purgeFinishedJobs();
+
+        Path directory = Path.of(importProperties.getServerDirectory()).toAbsolutePath().normalize();
+        Path requested = directory.resolve(relativePath).normalize();
+        if (!requested.startsWith(directory)) {
+            throw new IllegalArgumentException("Arquivo fora do diretorio de importacao: " + relativePath);
+        }
+        if (!Files.isRegularFile(requested)) {
+            throw new IllegalArgumentException("Arquivo nao encontrado no diretorio de importacao: " + relativePath);
+        }
+        // Um link simbolico dentro do diretorio pode apontar para fora dele: a restricao vale para o caminho real
+        Path file = requested.toRealPath();
+        if (!file.startsWith(directory.toRealPath())) {
+            throw new IllegalArgumentException("Arquivo fora do diretorio de importacao: " + relativePath);
+        }
+
+        var identity = file + "|" + Files.size(file) + "|" + Files.getLastModifiedTime(file).toMillis();
+        var fileHash = HexFormat.of().formatHex(newFileDigest().digest(identity.getBytes(StandardCharsets.UTF_8)));
+
+        var job = newJob(requested.getFileName().toString(), options, fileHash);
+        jobs.put(job.getId(), job);
+        logger.info("Importacao {} registrada para o arquivo do servidor {}", job.getId(), file);
+
+        jobExecutor.execute(() -> runServerFile(job, file));
+        return job;
+    }
+
+    /**
+     * Importa o CSV enquanto ele e recebido, na propria thread da requisicao: os chunks sao gravados no
+     * importExecutor a medida que as linhas chegam e o limite de chunks em andamento segura a leitura,
+     * mantendo a memoria limitada independente do tamanho do arquivo. O job fica visivel no endpoint de
+     * status durante o processamento. Sem hash previo do conteudo, essa importacao nao e retomavel.
+     * Conteudo gzip e descompactado durante a leitura; as entradas de um zip sao importadas em sequencia,
+     * ja que o stream nao permite ler uma entrada antes de terminar a anterior.
+     */
+    public ImportJob importStream(InputStream content, String fileName, ImportOptions options) {
+        purgeFinishedJobs();
+
+        var job = newJob(fileName, options, null);
+        jobs.put(job.getId(), job);
+        logger.info("Importacao {} em streaming iniciada para o arquivo {}", job.getId(), fileName);
+
+        job.start();
+        try {
+            importContent(new BufferedInputStream(content, DECOMPRESS_BUFFER_SIZE), job);
+            job.complete();
+            logger.info("Importacao {} concluida: {} contas em {} ms", job.getId(), job.getRowsPersisted(), job.getElapsedMillis());
+            return job;
+        } catch (IOException e) {
+            job.fail(e);
+            logger.error("Importacao {} falhou: {}", job.getId(), e.getMessage());
+            throw new ImportAccountException("Erro ao ler o arquivo: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            job.fail(e);
+            logger.error("Importacao {} falhou: {}", job.getId(), e.getMessage());
+            throw e;
+        }
+    }
+
+    public ImportJob getJob(UUID jobId) {
+        var job = jobs.get(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException(IMPORT_JOB_NOT_FOUND_WITH_ID + jobId);
+        }
+        return job;
+    }
+
+    private ImportJob newJob(String fileName, ImportOptions options, String fileHash) {
+        var engine = options.engine() != null ? options.engine() : importProperties.getEngine();
+        var dedup = options.dedup() != null ? options.dedup() : importProperties.isDedup();
+        return new ImportJob(fileName, engine, fileHash, dedup);
+    }
+
+    private void run(ImportJob job, Path file) {
+        job.start();
+        try {
+            importFile(file, job);
+            job.complete();
+            logger.info("Importacao {} concluida: {} contas em {} ms", job.getId(), job.getRowsPersisted(), job.getElapsedMillis());
+        } catch (Exception e) {
+            job.fail(e);
+            logger.error("Importacao {} falhou: {}", job.getId(), e.getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private void runServerFile(ImportJob job, Path file) {
+        job.start();
+        try {
+            // a engine STAGING carrega o arquivo em sequencia, entao nao se beneficia das faixas mapeadas
+            if (ImportInputFormat.detect(file) == ImportInputFormat.CSV && job.getEngine() != ImportEngineEnum.STAGING) {
+                accountService.processServerFile(file, job);
+            } else {
+                importFile(file, job);
+            }
+            job.complete();
+            logger.info("Importacao {} concluida: {} contas em {} ms", job.getId(), job.getRowsPersisted(), job.getElapsedMillis());
+        } catch (Exception e) {
+            job.fail(e);
+            logger.error("Importacao {} falhou: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    private void importFile(Path file, ImportJob job) throws IOException {
+        if (ImportInputFormat.detect(file) == ImportInputFormat.ZIP) {
+            importZipEntries(file, job);
+            return;
+        }
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file), DECOMPRESS_BUFFER_SIZE)) {
+            importContent(inputStream, job);
+        }
+    }
+
+    /**
+     * Importa o conteudo conforme o formato: CSV direto, gzip descompactado em streaming e zip entrada por entrada.
+     */
+    private void importContent(InputStream content, ImportJob job) throws IOException {
+        switch (ImportInputFormat.detect(content)) {
+            case CSV -> accountService.processImport(content, job);
+            case GZIP -> accountService.processImport(new GZIPInputStream(content, DECOMPRESS_BUFFER_SIZE), job);
+            case ZIP -> {
+                var zipStream = new ZipInputStream(content);
+                ZipEntry entry;
+                while ((entry = zipStream.getNextEntry()) != null) {
+                    if (!entry.isDirectory()) {
+                        accountService.processImport(StreamUtils.nonClosing(zipStream), job,
+                                entryHash(job, entry), entry.getName());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Com o zip em disco as entradas podem ser lidas de forma independente, entao sao importadas em paralelo
+     * no importArchiveExecutor. Cada entrada tem seu proprio manifesto e e retomada separadamente.
+     */
+    private void importZipEntries(Path file, ImportJob job) throws IOException {
+        try (var zipFile = new ZipFile(file.toFile())) {
+            List<CompletableFuture<Void>> entries = zipFile.stream()
+                    .filter(entry -> !entry.isDirectory())
+                    .map(entry -> CompletableFuture.runAsync(() -> importZipEntry(zipFile, entry, job), archiveExecutor))
+                    .toList();
+            try {
+                CompletableFuture.allOf(entries.toArray(new CompletableFuture[0])).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private void importZipEntry(ZipFile zipFile, ZipEntry entry, ImportJob job) {
+        try (InputStream inputStream = zipFile.getInputStream(entry)) {
+            accountService.processImport(inputStream, job, entryHash(job, entry), entry.getName());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String entryHash(ImportJob job, ZipEntry entry) {
+        if (job.getFileHash() == null) {
+            return null;
+        }
+        var identity = job.getFileHash() + "|" + entry.getName();
+        return HexFormat.of().formatHex(newFileDigest().digest(identity.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private MessageDigest newFileDigest() {
+        try {
+            return MessageDigest.getInstance(FILE_HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void purgeFinishedJobs() {
+        var limit = LocalDateTime.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(limit));
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Nao foi possivel remover o arquivo temporario {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.lyncas.contas.contaspagar.service;
+
+import com.lyncas.contas.contaspagar.domain.enums.ImportEngineEnum;
+
+/**
+ * Opcoes de uma importacao informadas na requisicao. Valores nulos usam o configurado em contas.import.
+ */
+public record ImportOptions(ImportEngineEnum engine, Boolean dedup) {
+
+    public static ImportOptions defaults() {
+        return new ImportOptions(null, null);
+    }
+}
@@ -0,0 +1,180 @@
+package com.lyncas.contas.contaspagar.service;
+
+import com.lyncas.contas.contaspagar.exception.ImportAccountException;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Importacao em estagios ligados por filas limitadas:
+ * <ol>
+ *     <li>leitura: a thread que chama {@link #submit} le o arquivo e monta os chunks;</li>
+ *     <li>parse: parseWorkers threads validam as linhas e preparam a escrita (COPY ou batch);</li>
+ *     <li>escrita: writeWorkers threads gravam os chunks, limitadas pelo {@link ImportThrottle}.</li>
+ * </ol>
+ * Uma fila cheia segura o estagio anterior, entao a memoria fica limitada pela capacidade das filas,
+ * independente do tamanho do arquivo. A primeira falha de qualquer estagio interrompe os demais.
+ */
+final class ImportPipeline<T> {
+
+    private static final long POLL_MILLIS = 50;
+
+    private final ImportJob job;
+    private final ImportThrottle importThrottle;
+    private final Function<T, ChunkWrite> parser;
+    private final int parseWorkers;
+    private final int writeWorkers;
+    private final BlockingQueue<T> parseQueue;
+    private final BlockingQueue<ChunkWrite> writeQueue;
+    private final ImportStageMetrics readStage;
+    private final ImportStageMetrics parseStage;
+    private final ImportStageMetrics writeStage;
+
+    private final List<CompletableFuture<Void>> workers = new ArrayList<>();
+    private final AtomicInteger activeParsers = new AtomicInteger();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean inputDone;
+    private long lastHandoffNanos;
+
+    ImportPipeline(ImportJob job, ImportThrottle importThrottle, Function<T, ChunkWrite> parser,
+                   int parseWorkers, int writeWorkers, int queueCapacity) {
+        this.job = job;
+        this.importThrottle = importThrottle;
+        this.parser = parser;
+        this.parseWorkers = parseWorkers;
+        this.writeWorkers = writeWorkers;
+        this.parseQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writeQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.readStage = new ImportStageMetrics("read", 1, 0, () -> 0);
+        this.parseStage = new ImportStageMetrics("parse", parseWorkers, queueCapacity, parseQueue::size);
+        this.writeStage = new ImportStageMetrics("write", writeWorkers, queueCapacity, writeQueue::size);
+        job.setStages(List.of(readStage, parseStage, writeStage));
+    }
+
+    void start(TaskExecutor parseExecutor, TaskExecutor writeExecutor) {
+        lastHandoffNanos = System.nanoTime();
+        activeParsers.set(parseWorkers);
+        for (int i = 0; i < parseWorkers; i++) {
+            workers.add(CompletableFuture.runAsync(this::parseLoop, parseExecutor));
+        }
+        for (int i = 0; i < writeWorkers; i++) {
+            workers.add(CompletableFuture.runAsync(this::writeLoop, writeExecutor));
+        }
+    }
+
+    /**
+     * Entrega um item lido ao estagio de parse, aguardando enquanto a fila estiver cheia.
+     */
+    void submit(T item, int rows) throws InterruptedException {
+        readStage.record(rows, System.nanoTime() - lastHandoffNanos);
+        if (!put(parseQueue, item)) {
+            rethrowFailure();
+        }
+        lastHandoffNanos = System.nanoTime();
+    }
+
+    /**
+     * Sinaliza o fim da leitura, aguarda os estagios seguintes esvaziarem as filas e relanca a primeira falha.
+     */
+    void finish() {
+        inputDone = true;
+        awaitWorkers();
+        rethrowFailure();
+    }
+
+    void abort(Throwable cause) {
+        failure.compareAndSet(null, cause);
+        inputDone = true;
+        awaitWorkers();
+    }
+
+    private void parseLoop() {
+        try {
+            T item;
+            while ((item = poll(parseQueue, () -> inputDone)) != null) {
+                long start = System.nanoTime();
+                ChunkWrite write = parser.apply(item);
+                parseStage.record(write.lines(), System.nanoTime() - start);
+                if (!put(writeQueue, write)) {
+                    return;
+                }
+            }
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            activeParsers.decrementAndGet();
+        }
+    }
+
+    private void writeLoop() {
+        try {
+            ChunkWrite write;
+            while ((write = poll(writeQueue, () -> activeParsers.get() == 0)) != null) {
+                importThrottle.acquire();
+                job.chunkStarted();
+                try {
+                    long start = System.nanoTime();
+                    write.write().run();
+                    long elapsed = System.nanoTime() - start;
+                    importThrottle.onChunkCommitted(elapsed);
+                    writeStage.record(write.lines(), elapsed);
+                    job.chunkPersisted(write.rows());
+                } finally {
+                    job.chunkFinished();
+                    importThrottle.release();
+                }
+            }
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    /**
+     * Retorna o proximo item, ou null quando o estagio anterior terminou e a fila esvaziou, ou houve falha.
+     */
+    private <E> E poll(BlockingQueue<E> queue, BooleanSupplier upstreamDone) throws InterruptedException {
+        while (failure.get() == null) {
+            boolean done = upstreamDone.getAsBoolean();
+            E item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (item != null) {
+                return item;
+            }
+            if (done) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private <E> boolean put(BlockingQueue<E> queue, E item) throws InterruptedException {
+        while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (failure.get() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void awaitWorkers() {
+        CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).exceptionally(ex -> null).join();
+    }
+
+    private void rethrowFailure() {
+        Throwable cause = failure.get();
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause != null) {
+            throw new ImportAccountException(cause.getMessage(), cause);
+        }
+    }
+}
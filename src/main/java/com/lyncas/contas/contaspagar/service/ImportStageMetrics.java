@@ -0,0 +1,64 @@
+package com.lyncas.contas.contaspagar.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Contadores de um estagio do {@link ImportPipeline}. O tempo ocupado soma todos os workers do estagio,
+ * de forma que ocupado / (workers x duracao) proximo de 100% indica o gargalo da importacao.
+ */
+public final class ImportStageMetrics {
+
+    private final String name;
+    private final int workers;
+    private final int queueCapacity;
+    private final IntSupplier queueDepth;
+    private final AtomicLong chunks = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong busyNanos = new AtomicLong();
+
+    ImportStageMetrics(String name, int workers, int queueCapacity, IntSupplier queueDepth) {
+        this.name = name;
+        this.workers = workers;
+        this.queueCapacity = queueCapacity;
+        this.queueDepth = queueDepth;
+    }
+
+    void record(int rows, long busyNanos) {
+        this.chunks.incrementAndGet();
+        this.rows.addAndGet(rows);
+        this.busyNanos.addAndGet(busyNanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Itens aguardando na fila de entrada do estagio.
+     */
+    public int getQueueDepth() {
+        return queueDepth.getAsInt();
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getChunks() {
+        return chunks.get();
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    public long getBusyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(busyNanos.get());
+    }
+}
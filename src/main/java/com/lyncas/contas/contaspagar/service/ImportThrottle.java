@@ -0,0 +1,201 @@
+package com.lyncas.contas.contaspagar.service;
+
+import com.lyncas.contas.contaspagar.infrastructure.config.ImportProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+/**
+ * Controle adaptativo (AIMD) da gravacao de chunks, compartilhado por todas as importacoes porque o banco e o
+ * pool de conexoes sao compartilhados com a API.
+ * <p>
+ * A cada janela de commits dentro do tempo alvo e sem threads aguardando conexao, o limite de chunks
+ * simultaneos sobe em um e, se o commit levou menos da metade do alvo, o tamanho do chunk sobe em
+ * minChunkSize. Um commit acima do alvo ou threads aguardando conexao derrubam o limite pela metade (e o
+ * tamanho do chunk, no caso de commit lento), no maximo uma vez por intervalo de commit, ja que os chunks
+ * em andamento quando o banco congestiona tambem vao reportar lentidao.
+ * <p>
+ * O limite de chunks nunca passa do tamanho do pool menos as conexoes reservadas para a API.
+ */
+@Component
+public class ImportThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportThrottle.class);
+
+    private static final double AVERAGE_WEIGHT = 0.2;
+
+    private final ImportProperties.Adaptive config;
+    private final IntSupplier threadsAwaitingConnection;
+    private final int maxConcurrentChunks;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+
+    private int concurrencyLimit;
+    private int inFlight;
+    private volatile int chunkSize;
+    private int commitsSinceIncrease;
+    private long lastDecreaseNanos;
+    private double averageCommitMillis;
+
+    @Autowired
+    public ImportThrottle(ImportProperties importProperties, DataSource dataSource) {
+        this(importProperties.getAdaptive(), threadsAwaitingConnection(dataSource), maximumPoolSize(dataSource));
+    }
+
+    ImportThrottle(ImportProperties.Adaptive config, IntSupplier threadsAwaitingConnection, int poolSize) {
+        this.config = config;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+        this.maxConcurrentChunks = Math.max(config.getMinConcurrentChunks(),
+                Math.min(config.getMaxConcurrentChunks(), poolSize - config.getReservedConnections()));
+        this.concurrencyLimit = clamp(config.getInitialConcurrentChunks(), config.getMinConcurrentChunks(), maxConcurrentChunks);
+        this.chunkSize = clamp(config.getInitialChunkSize(), config.getMinChunkSize(), config.getMaxChunkSize());
+        logger.info("Importacao limitada a {} chunks simultaneos (inicial {}), chunks de {} linhas",
+                maxConcurrentChunks, concurrencyLimit, chunkSize);
+    }
+
+    /**
+     * Aguarda ate que o limite atual permita mais um chunk em gravacao.
+     */
+    public void acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= concurrencyLimit) {
+                available.await();
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Registra a duracao da gravacao de um chunk (aquisicao da conexao, escrita e commit) e ajusta os limites.
+     */
+    public void onChunkCommitted(long elapsedNanos) {
+        long commitMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        int waiting = threadsAwaitingConnection.getAsInt();
+        long now = System.nanoTime();
+
+        lock.lock();
+        try {
+            averageCommitMillis = averageCommitMillis == 0
+                    ? commitMillis
+                    : averageCommitMillis + AVERAGE_WEIGHT * (commitMillis - averageCommitMillis);
+
+            boolean slowCommit = commitMillis > config.getTargetCommitMillis();
+            if (slowCommit || waiting > 0) {
+                decrease(slowCommit, commitMillis, waiting, now);
+            } else if (++commitsSinceIncrease >= concurrencyLimit) {
+                increase(commitMillis);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Teto do limite de chunks simultaneos, ja descontadas as conexoes reservadas para a API.
+     */
+    public int getMaxConcurrentChunks() {
+        return maxConcurrentChunks;
+    }
+
+    public int getConcurrencyLimit() {
+        lock.lock();
+        try {
+            return concurrencyLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getAverageCommitMillis() {
+        lock.lock();
+        try {
+            return Math.round(averageCommitMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrease(boolean slowCommit, long commitMillis, int waiting, long now) {
+        commitsSinceIncrease = 0;
+        long cooldownNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(config.getTargetCommitMillis(), Math.round(averageCommitMillis)));
+        if (lastDecreaseNanos != 0 && now - lastDecreaseNanos < cooldownNanos) {
+            return;
+        }
+        lastDecreaseNanos = now;
+
+        int previousLimit = concurrencyLimit;
+        int previousChunkSize = chunkSize;
+        concurrencyLimit = Math.max(config.getMinConcurrentChunks(), concurrencyLimit / 2);
+        if (slowCommit) {
+            chunkSize = Math.max(config.getMinChunkSize(), chunkSize / 2);
+        }
+        logger.info("Importacao reduzida: {} -> {} chunks simultaneos, {} -> {} linhas por chunk (commit {} ms, {} threads aguardando conexao)",
+                previousLimit, concurrencyLimit, previousChunkSize, chunkSize, commitMillis, waiting);
+    }
+
+    private void increase(long commitMillis) {
+        commitsSinceIncrease = 0;
+        if (concurrencyLimit < maxConcurrentChunks) {
+            concurrencyLimit++;
+            available.signal();
+        }
+        if (commitMillis * 2 < config.getTargetCommitMillis()) {
+            chunkSize = Math.min(config.getMaxChunkSize(), chunkSize + config.getMinChunkSize());
+        }
+        logger.debug("Importacao ampliada: {} chunks simultaneos, {} linhas por chunk (commit {} ms)",
+                concurrencyLimit, chunkSize, commitMillis);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static IntSupplier threadsAwaitingConnection(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return () -> {
+                var pool = hikari.getHikariPoolMXBean();
+                return pool != null ? pool.getThreadsAwaitingConnection() : 0;
+            };
+        }
+        return () -> 0;
+    }
+
+    private static int maximumPoolSize(DataSource dataSource) {
+        return dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : Integer.MAX_VALUE;
+    }
+}
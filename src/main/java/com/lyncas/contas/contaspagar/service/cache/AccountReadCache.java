@@ -0,0 +1,169 @@
+package com.lyncas.contas.contaspagar.service.cache;
+
+import com.lyncas.contas.contaspagar.infrastructure.config.AccountCacheProperties;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountAnalyticsGroupDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.CacheStatsDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache das leituras repetidas dos dashboards (total pago, paginas da listagem e totais agrupados), invalidado por versoes de
+ * escrita por mes: uma escrita incrementa a versao dos meses das datas que alterou, e a versao de um periodo e a
+ * soma das versoes dos seus meses com a versao global, incrementada pelas importacoes. Periodos com mais de
+ * {@link #MAX_MONTHS_PER_RANGE} meses usam um contador de todas as escritas.
+ * <p>
+ * As versoes so sao incrementadas depois do commit: uma leitura concorrente nunca guarda dados antigos sob a
+ * versao nova.
+ * <p>
+ * As contas lidas por id ficam em um cache proprio, sem versao, do qual cada conta alterada e removida apos o commit.
+ */
+@Component
+public class AccountReadCache {
+
+    static final int MAX_MONTHS_PER_RANGE = 36;
+
+    private final boolean enabled;
+    private final ReadThroughCache<PeriodKey, BigDecimal> totalPaid;
+    private final ReadThroughCache<PageKey, Page<AccountDTO>> pages;
+    private final ReadThroughCache<PeriodKey, List<AccountAnalyticsGroupDTO>> analytics;
+    private final ReadThroughCache<Long, AccountDTO> accounts;
+
+    private final Map<Long, AtomicLong> monthVersions = new ConcurrentHashMap<>();
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final AtomicLong writeCount = new AtomicLong();
+
+    public AccountReadCache(AccountCacheProperties properties) {
+        long ttlNanos = properties.getTtl().toNanos();
+        this.enabled = properties.isEnabled() && properties.getMaxEntries() > 0;
+        this.totalPaid = new ReadThroughCache<>("total-pago", properties.getMaxEntries(), ttlNanos);
+        this.pages = new ReadThroughCache<>("listagem", properties.getMaxEntries(), ttlNanos);
+        this.analytics = new ReadThroughCache<>("analise", properties.getMaxEntries(), ttlNanos);
+        this.accounts = new ReadThroughCache<>("contas", properties.getAccountMaxEntries(), ttlNanos);
+    }
+
+    public BigDecimal totalPaid(LocalDate startDate, LocalDate endDate, Supplier<BigDecimal> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return totalPaid.get(new PeriodKey(startDate, endDate), version(startDate, endDate), loader);
+    }
+
+    public Page<AccountDTO> page(LocalDate startDate, LocalDate endDate, String descricao, boolean relevancia,
+                                 Pageable pageable, Supplier<Page<AccountDTO>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return pages.get(new PageKey(startDate, endDate, descricao, relevancia, pageable), version(startDate, endDate), loader);
+    }
+
+    public List<AccountAnalyticsGroupDTO> analytics(LocalDate startDate, LocalDate endDate,
+                                                    Supplier<List<AccountAnalyticsGroupDTO>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return analytics.get(new PeriodKey(startDate, endDate), version(startDate, endDate), loader);
+    }
+
+    public AccountDTO account(Long id, Supplier<AccountDTO> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return accounts.get(id, 0, loader);
+    }
+
+    /**
+     * Remove a conta do cache por id, apos o commit da transacao atual.
+     */
+    public void evict(Long id) {
+        afterCommit(() -> accounts.invalidate(id));
+    }
+
+    /**
+     * Invalida os periodos que contem alguma das datas (nulas sao ignoradas), apos o commit da transacao atual.
+     */
+    public void invalidate(LocalDate... dates) {
+        afterCommit(() -> {
+            for (LocalDate date : dates) {
+                if (date != null) {
+                    monthVersions.computeIfAbsent(month(date), m -> new AtomicLong()).incrementAndGet();
+                }
+            }
+            writeCount.incrementAndGet();
+        });
+    }
+
+    /**
+     * Invalida todos os periodos, apos o commit da transacao atual; usado quando as datas alteradas nao sao conhecidas.
+     */
+    public void invalidateAll() {
+        afterCommit(() -> {
+            globalVersion.incrementAndGet();
+            writeCount.incrementAndGet();
+        });
+    }
+
+    public List<CacheStatsDTO> stats() {
+        return List.of(stats(totalPaid), stats(pages), stats(analytics), stats(accounts));
+    }
+
+    long version(LocalDate startDate, LocalDate endDate) {
+        long first = month(startDate);
+        long last = month(endDate);
+        if (last - first >= MAX_MONTHS_PER_RANGE) {
+            return writeCount.get();
+        }
+        long version = globalVersion.get();
+        for (long month = first; month <= last; month++) {
+            AtomicLong monthVersion = monthVersions.get(month);
+            if (monthVersion != null) {
+                version += monthVersion.get();
+            }
+        }
+        return version;
+    }
+
+    private static long month(LocalDate date) {
+        return date.getYear() * 12L + date.getMonthValue() - 1;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static CacheStatsDTO stats(ReadThroughCache<?, ?> cache) {
+        return new CacheStatsDTO.Builder()
+                .name(cache.getName())
+                .size(cache.size())
+                .hits(cache.getHits())
+                .misses(cache.getMisses())
+                .evictions(cache.getEvictions())
+                .build();
+    }
+
+    private record PeriodKey(LocalDate startDate, LocalDate endDate) {
+    }
+
+    private record PageKey(LocalDate startDate, LocalDate endDate, String descricao, boolean relevancia, Pageable pageable) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.lyncas.contas.contaspagar.service.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Cache limitado (LRU) com expiracao por tempo, em que cada valor guarda a versao dos dados de quando foi
+ * carregado: um valor so e servido se a versao pedida for a mesma, entao incrementar a versao invalida os
+ * valores antigos sem percorrer o cache. Valores nulos tambem sao guardados.
+ * <p>
+ * A carga acontece fora do lock; duas leituras simultaneas da mesma chave ausente carregam as duas. Um valor
+ * carregado enquanto alguma chave era invalidada e devolvido, mas nao e guardado, porque pode ser anterior a escrita.
+ */
+public final class ReadThroughCache<K, V> {
+
+    private final String name;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, Entry<V>> entries;
+    private long invalidations;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ReadThroughCache(String name, int maxEntries, long ttlNanos) {
+        this(name, maxEntries, ttlNanos, System::nanoTime);
+    }
+
+    ReadThroughCache(String name, int maxEntries, long ttlNanos, LongSupplier nanoClock) {
+        this.name = name;
+        this.ttlNanos = ttlNanos;
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Retorna o valor da chave carregado na versao informada, ou chama o loader e guarda o resultado.
+     */
+    public V get(K key, long version, Supplier<V> loader) {
+        long now = nanoClock.getAsLong();
+        long invalidationsBeforeLoad;
+        lock.lock();
+        try {
+            invalidationsBeforeLoad = invalidations;
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                boolean expired = now - entry.loadedAt() >= ttlNanos;
+                if (!expired && entry.version() == version) {
+                    hits.increment();
+                    return entry.value();
+                }
+                entries.remove(key);
+                if (expired) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        V value = loader.get();
+        lock.lock();
+        try {
+            if (invalidations == invalidationsBeforeLoad) {
+                entries.put(key, new Entry<>(value, version, now));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return value;
+    }
+
+    /**
+     * Remove o valor da chave; nao conta como descarte.
+     */
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            invalidations++;
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Valores descartados por tamanho ou por expiracao; os invalidados por versao nao entram na conta.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private record Entry<V>(V value, long version, long loadedAt) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.lyncas.contas.contaspagar.service.csv;
+
+/**
+ * Codifica um {@link AccountCsvRow} como linha CSV do COPY, na ordem de
+ * {@code AccountCopyRepository.COPY_COLUMNS}, copiando os textos direto da linha de origem.
+ */
+public final class AccountCopyEncoder {
+
+    private static final int DATE_LENGTH = 10;
+
+    private AccountCopyEncoder() {}
+
+    public static void appendRow(StringBuilder out, long id, AccountCsvRow row, CharSequence timestamp) {
+        CharSequence source = row.source();
+
+        out.append(id).append(',');
+        out.append(source, row.dataVencimentoStart(), row.dataVencimentoStart() + DATE_LENGTH).append(',');
+        if (row.hasDataPagamento()) {
+            out.append(source, row.dataPagamentoStart(), row.dataPagamentoStart() + DATE_LENGTH);
+        }
+        out.append(',');
+        appendValor(out, row.getValorCentavos());
+        out.append(',');
+        appendDescricao(out, row);
+        out.append(',').append(row.getSituacao().name())
+                .append(',').append(timestamp)
+                .append(',').append(timestamp)
+                .append('\n');
+    }
+
+    static void appendValor(StringBuilder out, long centavos) {
+        if (centavos < 0) {
+            out.append('-');
+            centavos = -centavos;
+        }
+        long fraction = centavos % 100;
+        out.append(centavos / 100).append('.');
+        if (fraction < 10) {
+            out.append('0');
+        }
+        out.append(fraction);
+    }
+
+    private static void appendDescricao(StringBuilder out, AccountCsvRow row) {
+        CharSequence source = row.source();
+        out.append('"');
+        if (row.isDescricaoQuoted()) {
+            // o conteudo entre aspas ja vem com "" escapado
+            out.append(source, row.descricaoStart(), row.descricaoEnd());
+        } else {
+            for (int i = row.descricaoStart(); i < row.descricaoEnd(); i++) {
+                char c = source.charAt(i);
+                if (c == '"') {
+                    out.append('"');
+                }
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,232 @@
+package com.lyncas.contas.contaspagar.service.csv;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.exception.AccountCsvParseException;
+import com.lyncas.contas.contaspagar.exception.SituacaoException;
+
+/**
+ * Parser das linhas do CSV de contas (data_vencimento,data_pagamento,valor,descricao,situacao).
+ * Decodifica os campos direto dos caracteres da linha, sem split, sem Strings intermediarias e sem
+ * os formatadores genericos de data/decimal: datas fixas yyyy-MM-dd, valor com no maximo 2 casas
+ * (DECIMAL(15,2)) e os tres valores de situacao. A descricao segue a RFC-4180 (aspas, "" como escape);
+ * quebras de linha dentro de aspas nao sao suportadas.
+ */
+public final class AccountCsvParser {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final int DATE_LENGTH = 10;
+    private static final int VALOR_SCALE = 2;
+    private static final int MAX_VALOR_INTEGER_DIGITS = 13;
+    private static final int MAX_DESCRICAO_LENGTH = 255;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    private AccountCsvParser() {}
+
+    /**
+     * Preenche {@code row} com os campos da linha. O row mantem referencia a linha,
+     * que nao deve ser alterada enquanto o row estiver em uso.
+     */
+    public static void parse(CharSequence line, AccountCsvRow row) {
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            length--;
+        }
+        row.reset(line);
+
+        int end = unquotedFieldEnd(line, 0, length);
+        row.setDataVencimento(0, parseDate(line, 0, end, "data_vencimento"));
+
+        int start = nextField(line, end, length, "data_pagamento");
+        end = unquotedFieldEnd(line, start, length);
+        if (end > start) {
+            row.setDataPagamento(start, parseDate(line, start, end, "data_pagamento"));
+        }
+
+        start = nextField(line, end, length, "valor");
+        end = unquotedFieldEnd(line, start, length);
+        row.setValorCentavos(parseValor(line, start, end));
+
+        start = nextField(line, end, length, "descricao");
+        end = parseDescricao(line, start, length, row);
+
+        start = nextField(line, end, length, "situacao");
+        end = unquotedFieldEnd(line, start, length);
+        if (end != length) {
+            throw new AccountCsvParseException("Linha com mais campos que o esperado: " + line);
+        }
+        row.setSituacao(parseSituacao(line, start, end));
+    }
+
+    private static int nextField(CharSequence line, int end, int length, String field) {
+        if (end >= length || line.charAt(end) != SEPARATOR) {
+            throw new AccountCsvParseException("Campo " + field + " ausente na linha: " + line);
+        }
+        return end + 1;
+    }
+
+    private static int unquotedFieldEnd(CharSequence line, int start, int length) {
+        int i = start;
+        while (i < length && line.charAt(i) != SEPARATOR) {
+            i++;
+        }
+        return i;
+    }
+
+    static long parseDate(CharSequence line, int start, int end, String field) {
+        if (end - start != DATE_LENGTH || line.charAt(start + 4) != '-' || line.charAt(start + 7) != '-') {
+            throw invalidDate(line, start, end, field);
+        }
+        int year = digits(line, start, start + 4);
+        int month = digits(line, start + 5, start + 7);
+        int day = digits(line, start + 8, start + 10);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            throw invalidDate(line, start, end, field);
+        }
+        return toEpochDay(year, month, day);
+    }
+
+    private static int digits(CharSequence line, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = line.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    // Mesmo calculo de LocalDate.toEpochDay, restrito a anos positivos
+    private static long toEpochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367L * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    static long parseValor(CharSequence line, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (line.charAt(i) == '-' || line.charAt(i) == '+')) {
+            negative = line.charAt(i) == '-';
+            i++;
+        }
+
+        long integerPart = 0;
+        int integerDigits = 0;
+        while (i < end && line.charAt(i) != '.') {
+            int digit = line.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || ++integerDigits > MAX_VALOR_INTEGER_DIGITS) {
+                throw invalidValor(line, start, end);
+            }
+            integerPart = integerPart * 10 + digit;
+            i++;
+        }
+
+        long fraction = 0;
+        int fractionDigits = 0;
+        if (i < end) {
+            i++;
+            while (i < end) {
+                int digit = line.charAt(i) - '0';
+                if (digit < 0 || digit > 9 || ++fractionDigits > VALOR_SCALE) {
+                    throw invalidValor(line, start, end);
+                }
+                fraction = fraction * 10 + digit;
+                i++;
+            }
+        }
+        if (integerDigits + fractionDigits == 0) {
+            throw invalidValor(line, start, end);
+        }
+        if (fractionDigits == 1) {
+            fraction *= 10;
+        }
+
+        long centavos = integerPart * 100 + fraction;
+        return negative ? -centavos : centavos;
+    }
+
+    private static int parseDescricao(CharSequence line, int start, int length, AccountCsvRow row) {
+        if (start >= length || line.charAt(start) != QUOTE) {
+            int end = unquotedFieldEnd(line, start, length);
+            checkDescricaoLength(line, end - start);
+            row.setDescricao(start, end, false, false);
+            return end;
+        }
+
+        int escapes = 0;
+        int i = start + 1;
+        while (i < length) {
+            if (line.charAt(i) == QUOTE) {
+                if (i + 1 < length && line.charAt(i + 1) == QUOTE) {
+                    escapes++;
+                    i += 2;
+                    continue;
+                }
+                checkDescricaoLength(line, i - start - 1 - escapes);
+                row.setDescricao(start + 1, i, true, escapes > 0);
+                return i + 1;
+            }
+            i++;
+        }
+        throw new AccountCsvParseException("Aspas nao fechadas no campo descricao: " + line);
+    }
+
+    private static void checkDescricaoLength(CharSequence line, int length) {
+        if (length > MAX_DESCRICAO_LENGTH) {
+            throw new AccountCsvParseException("Descricao com mais de " + MAX_DESCRICAO_LENGTH + " caracteres: " + line);
+        }
+    }
+
+    static AccountStatusEnum parseSituacao(CharSequence line, int start, int end) {
+        AccountStatusEnum situacao = switch (end - start) {
+            case 4 -> AccountStatusEnum.PAGA;
+            case 8 -> AccountStatusEnum.PENDENTE;
+            case 9 -> AccountStatusEnum.CANCELADA;
+            default -> null;
+        };
+        if (situacao == null || !regionEqualsIgnoreCase(line, start, situacao.name())) {
+            throw new SituacaoException("Status inválido: " + line.subSequence(start, end));
+        }
+        return situacao;
+    }
+
+    private static boolean regionEqualsIgnoreCase(CharSequence line, int start, String expected) {
+        for (int i = 0; i < expected.length(); i++) {
+            if (Character.toUpperCase(line.charAt(start + i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static AccountCsvParseException invalidDate(CharSequence line, int start, int end, String field) {
+        return new AccountCsvParseException("Data invalida no campo " + field + ": '" + line.subSequence(start, end)
+                + "' (formato esperado yyyy-MM-dd)");
+    }
+
+    private static AccountCsvParseException invalidValor(CharSequence line, int start, int end) {
+        return new AccountCsvParseException("Valor invalido: '" + line.subSequence(start, end) + "'");
+    }
+}
@@ -0,0 +1,152 @@
+package com.lyncas.contas.contaspagar.service.csv;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.domain.model.Account;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Resultado reutilizavel do {@link AccountCsvParser}. Guarda os campos ja decodificados e as posicoes
+ * dos textos na linha original, de forma que um mesmo row possa ser usado para todas as linhas de um chunk.
+ */
+public final class AccountCsvRow {
+
+    private CharSequence source;
+    private int dataVencimentoStart;
+    private long dataVencimentoEpochDay;
+    private int dataPagamentoStart;
+    private long dataPagamentoEpochDay;
+    private long valorCentavos;
+    private int descricaoStart;
+    private int descricaoEnd;
+    private boolean descricaoQuoted;
+    private boolean descricaoEscaped;
+    private AccountStatusEnum situacao;
+
+    void reset(CharSequence source) {
+        this.source = source;
+        this.dataPagamentoStart = -1;
+    }
+
+    void setDataVencimento(int start, long epochDay) {
+        this.dataVencimentoStart = start;
+        this.dataVencimentoEpochDay = epochDay;
+    }
+
+    void setDataPagamento(int start, long epochDay) {
+        this.dataPagamentoStart = start;
+        this.dataPagamentoEpochDay = epochDay;
+    }
+
+    void setValorCentavos(long valorCentavos) {
+        this.valorCentavos = valorCentavos;
+    }
+
+    void setDescricao(int start, int end, boolean quoted, boolean escaped) {
+        this.descricaoStart = start;
+        this.descricaoEnd = end;
+        this.descricaoQuoted = quoted;
+        this.descricaoEscaped = escaped;
+    }
+
+    void setSituacao(AccountStatusEnum situacao) {
+        this.situacao = situacao;
+    }
+
+    public long getDataVencimentoEpochDay() {
+        return dataVencimentoEpochDay;
+    }
+
+    public boolean hasDataPagamento() {
+        return dataPagamentoStart >= 0;
+    }
+
+    public long getDataPagamentoEpochDay() {
+        return dataPagamentoEpochDay;
+    }
+
+    public long getValorCentavos() {
+        return valorCentavos;
+    }
+
+    public AccountStatusEnum getSituacao() {
+        return situacao;
+    }
+
+    public LocalDate getDataVencimento() {
+        return LocalDate.ofEpochDay(dataVencimentoEpochDay);
+    }
+
+    public LocalDate getDataPagamento() {
+        return hasDataPagamento() ? LocalDate.ofEpochDay(dataPagamentoEpochDay) : null;
+    }
+
+    public BigDecimal getValor() {
+        return BigDecimal.valueOf(valorCentavos, 2);
+    }
+
+    public String getDescricao() {
+        if (!descricaoEscaped) {
+            return source.subSequence(descricaoStart, descricaoEnd).toString();
+        }
+        var descricao = new StringBuilder(descricaoEnd - descricaoStart);
+        for (int i = descricaoStart; i < descricaoEnd; i++) {
+            char c = source.charAt(i);
+            descricao.append(c);
+            if (c == '"') {
+                i++;
+            }
+        }
+        return descricao.toString();
+    }
+
+    /**
+     * Mesmo valor de {@code getDescricao().hashCode()}, calculado sem criar a String.
+     */
+    public int descricaoHashCode() {
+        int hash = 0;
+        for (int i = descricaoStart; i < descricaoEnd; i++) {
+            char c = source.charAt(i);
+            hash = 31 * hash + c;
+            if (descricaoEscaped && c == '"') {
+                i++;
+            }
+        }
+        return hash;
+    }
+
+    public Account toAccount() {
+        return new Account.Builder()
+                .dataVencimento(getDataVencimento())
+                .dataPagamento(getDataPagamento())
+                .valor(getValor())
+                .descricao(getDescricao())
+                .situacao(situacao)
+                .build();
+    }
+
+    CharSequence source() {
+        return source;
+    }
+
+    int dataVencimentoStart() {
+        return dataVencimentoStart;
+    }
+
+    int dataPagamentoStart() {
+        return dataPagamentoStart;
+    }
+
+    int descricaoStart() {
+        return descricaoStart;
+    }
+
+    int descricaoEnd() {
+        return descricaoEnd;
+    }
+
+    boolean isDescricaoQuoted() {
+        return descricaoQuoted;
+    }
+}
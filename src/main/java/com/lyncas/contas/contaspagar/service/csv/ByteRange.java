@@ -0,0 +1,11 @@
+package com.lyncas.contas.contaspagar.service.csv;
+
+/**
+ * Faixa [start, end) de um arquivo, sempre alinhada ao inicio de uma linha.
+ */
+public record ByteRange(int index, long start, long end) {
+
+    public long length() {
+        return end - start;
+    }
+}
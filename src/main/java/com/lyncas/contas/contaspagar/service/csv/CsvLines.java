@@ -0,0 +1,29 @@
+package com.lyncas.contas.contaspagar.service.csv;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Sequencia de linhas de dados de um chunk. As linhas entregues ao consumer podem ser views
+ * reutilizadas, validas apenas durante a chamada.
+ */
+public interface CsvLines {
+
+    int size();
+
+    void forEach(Consumer<? super CharSequence> action);
+
+    static CsvLines of(List<? extends CharSequence> lines) {
+        return new CsvLines() {
+            @Override
+            public int size() {
+                return lines.size();
+            }
+
+            @Override
+            public void forEach(Consumer<? super CharSequence> action) {
+                lines.forEach(action);
+            }
+        };
+    }
+}
@@ -0,0 +1,183 @@
+package com.lyncas.contas.contaspagar.service.csv;
+
+import com.lyncas.contas.contaspagar.exception.AccountCsvParseException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Arquivo CSV local lido via {@link FileChannel#map}. O arquivo e dividido em faixas alinhadas a linhas
+ * que podem ser mapeadas e processadas em paralelo; cada linha e decodificada (UTF-8) num CharBuffer
+ * reutilizado, sem copia para o heap alem dos caracteres da linha corrente.
+ */
+public final class MappedCsvFile implements Closeable {
+
+    private static final int BOUNDARY_SCAN_BYTES = 8 * 1024;
+    private static final int INITIAL_LINE_CAPACITY = 256;
+
+    private final FileChannel channel;
+    private final long size;
+
+    private MappedCsvFile(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+    }
+
+    public static MappedCsvFile open(Path path) throws IOException {
+        return new MappedCsvFile(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Divide o arquivo, a partir da linha seguinte ao cabecalho, em faixas de aproximadamente
+     * {@code targetRangeBytes}. As fronteiras dependem apenas do conteudo e do tamanho alvo,
+     * entao o mesmo arquivo gera sempre as mesmas faixas.
+     */
+    public List<ByteRange> split(long targetRangeBytes) throws IOException {
+        List<ByteRange> ranges = new ArrayList<>();
+        long position = nextLineStart(0);
+        int index = 0;
+        while (position < size) {
+            long end = position + targetRangeBytes >= size ? size : nextLineStart(position + targetRangeBytes);
+            ranges.add(new ByteRange(index++, position, end));
+            position = end;
+        }
+        return ranges;
+    }
+
+    private long nextLineStart(long from) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(BOUNDARY_SCAN_BYTES);
+        long position = from;
+        while (position < size) {
+            window.clear();
+            int read = channel.read(window, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    public CsvLines lines(ByteRange range) {
+        return new RangeLines(range);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private final class RangeLines implements CsvLines {
+
+        private final ByteRange range;
+        private MappedByteBuffer buffer;
+        private int lineCount = -1;
+
+        private RangeLines(ByteRange range) {
+            this.range = range;
+        }
+
+        private MappedByteBuffer buffer() {
+            if (buffer == null) {
+                try {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, range.start(), range.length());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return buffer;
+        }
+
+        @Override
+        public int size() {
+            if (lineCount < 0) {
+                var bytes = buffer();
+                int count = 0;
+                int lineStart = 0;
+                int limit = bytes.limit();
+                for (int i = 0; i <= limit; i++) {
+                    if (i == limit || bytes.get(i) == '\n') {
+                        if (!isBlank(bytes, lineStart, i)) {
+                            count++;
+                        }
+                        lineStart = i + 1;
+                    }
+                }
+                lineCount = count;
+            }
+            return lineCount;
+        }
+
+        @Override
+        public void forEach(Consumer<? super CharSequence> action) {
+            var bytes = buffer();
+            var view = bytes.duplicate();
+            CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT);
+            CharBuffer line = CharBuffer.allocate(INITIAL_LINE_CAPACITY);
+
+            int lineStart = 0;
+            int limit = bytes.limit();
+            for (int i = 0; i <= limit; i++) {
+                if (i == limit || bytes.get(i) == '\n') {
+                    if (!isBlank(bytes, lineStart, i)) {
+                        view.limit(i).position(lineStart);
+                        line = decode(decoder, view, line);
+                        action.accept(line);
+                    }
+                    lineStart = i + 1;
+                }
+            }
+        }
+
+        private boolean isBlank(ByteBuffer bytes, int start, int end) {
+            return end == start || (end - start == 1 && bytes.get(start) == '\r');
+        }
+
+        private CharBuffer decode(CharsetDecoder decoder, ByteBuffer view, CharBuffer line) {
+            int lineStart = view.position();
+            while (true) {
+                decoder.reset();
+                line.clear();
+                CoderResult result = decoder.decode(view, line, true);
+                if (!result.isOverflow()) {
+                    result = decoder.flush(line);
+                }
+                if (result.isOverflow()) {
+                    line = CharBuffer.allocate(line.capacity() * 2);
+                    view.position(lineStart);
+                    continue;
+                }
+                if (result.isError()) {
+                    throw new AccountCsvParseException("Conteudo UTF-8 invalido no byte " + (range.start() + lineStart));
+                }
+                line.flip();
+                return line;
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.lyncas.contas.contaspagar.service.dedup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.LongConsumer;
+
+/**
+ * Estado da deduplicacao de uma importacao: o filtro de Bloom com as chaves das contas ja existentes e o
+ * intervalo de vencimentos ja carregado nele. Cada intervalo de datas e lido do banco uma unica vez; os
+ * chunks seguintes que caem no mesmo periodo so consultam o filtro.
+ * <p>
+ * Apenas contas criadas antes do inicio da importacao entram no filtro, para que as linhas gravadas pela
+ * propria importacao nao sejam tratadas como duplicadas pelos chunks seguintes.
+ */
+public final class AccountDedupFilter {
+
+    /**
+     * Carrega no consumer os hashes das contas com vencimento no intervalo, retornando a quantidade lida.
+     */
+    @FunctionalInterface
+    public interface RangeLoader {
+        long load(LocalDate startDate, LocalDate endDate, LocalDateTime createdBefore, LongConsumer hashes);
+    }
+
+    private final BloomFilter bloomFilter;
+    private final LocalDateTime createdBefore;
+    private long loadedStartDay = Long.MAX_VALUE;
+    private long loadedEndDay = Long.MIN_VALUE;
+    private long keysLoaded;
+
+    public AccountDedupFilter(BloomFilter bloomFilter, LocalDateTime createdBefore) {
+        this.bloomFilter = bloomFilter;
+        this.createdBefore = createdBefore;
+    }
+
+    /**
+     * Garante que o filtro contenha as contas com vencimento entre os dias informados, lendo apenas a parte
+     * do intervalo que ainda nao foi carregada. O intervalo carregado e sempre continuo.
+     */
+    public synchronized void ensureLoaded(long startDay, long endDay, RangeLoader loader) {
+        if (loadedStartDay > loadedEndDay) {
+            load(startDay, endDay, loader);
+            loadedStartDay = startDay;
+            loadedEndDay = endDay;
+            return;
+        }
+        if (startDay < loadedStartDay) {
+            load(startDay, loadedStartDay - 1, loader);
+            loadedStartDay = startDay;
+        }
+        if (endDay > loadedEndDay) {
+            load(loadedEndDay + 1, endDay, loader);
+            loadedEndDay = endDay;
+        }
+    }
+
+    public boolean mightContain(long hash) {
+        return bloomFilter.mightContain(hash);
+    }
+
+    public LocalDateTime getCreatedBefore() {
+        return createdBefore;
+    }
+
+    public synchronized long getKeysLoaded() {
+        return keysLoaded;
+    }
+
+    private void load(long startDay, long endDay, RangeLoader loader) {
+        keysLoaded += loader.load(LocalDate.ofEpochDay(startDay), LocalDate.ofEpochDay(endDay), createdBefore, bloomFilter::put);
+    }
+}
@@ -0,0 +1,59 @@
+package com.lyncas.contas.contaspagar.service.dedup;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom sobre hashes de 64 bits, com as k posicoes derivadas por double hashing do hash e da sua
+ * rotacao. Pode ser consultado por varias threads enquanto outra adiciona elementos.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long expected = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) >>> 6));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+    }
+
+    public void put(long hash) {
+        long step = Long.rotateLeft(hash, 32) | 1;
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(hash + i * step);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(long hash) {
+        long step = Long.rotateLeft(hash, 32) | 1;
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(hash + i * step);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private long index(long combined) {
+        return (combined & Long.MAX_VALUE) % bitCount;
+    }
+}
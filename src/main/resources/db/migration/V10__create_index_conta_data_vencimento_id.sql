@@ -0,0 +1,7 @@
+-- A paginacao por busca (keyset) compara e ordena por (data_vencimento, id). Em
+-- idx_conta_data_vencimento_situacao_descricao_id o id vem depois de situacao e descricao, entao so a coluna inicial
+-- serve o seek e o planner ainda ordena a faixa de vencimento inteira. Este indice entrega as linhas ja na ordem da
+-- pagina, a partir do cursor. CONCURRENTLY nao bloqueia as escritas em conta, por isso a migracao roda fora de
+-- transacao (V10__create_index_conta_data_vencimento_id.sql.conf).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_conta_data_vencimento_id
+    ON conta (data_vencimento, id);
@@ -0,0 +1,5 @@
+-- O id passa a ser gerado por sequence com alocacao em blocos de 50 (pooled),
+-- permitindo que o Hibernate e o import agrupem os INSERTs em batches JDBC.
+ALTER SEQUENCE conta_id_seq INCREMENT BY 50;
+
+SELECT setval('conta_id_seq', COALESCE((SELECT MAX(id) FROM conta), 0) + 50, true);
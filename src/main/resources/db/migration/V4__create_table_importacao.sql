@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS importacao (
+     id BIGSERIAL PRIMARY KEY,
+     hash_arquivo VARCHAR(64) NOT NULL UNIQUE,
+     nome_arquivo VARCHAR(255),
+     tamanho_chunk INTEGER NOT NULL,
+     situacao VARCHAR(20) NOT NULL,
+     total_linhas BIGINT,
+     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS importacao_chunk (
+     importacao_id BIGINT NOT NULL REFERENCES importacao (id),
+     indice INTEGER NOT NULL,
+     linha_inicial BIGINT NOT NULL,
+     quantidade_linhas INTEGER NOT NULL,
+     committed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+     PRIMARY KEY (importacao_id, indice)
+);
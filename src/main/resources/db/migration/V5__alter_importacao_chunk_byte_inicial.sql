@@ -0,0 +1,4 @@
+-- Chunks de arquivos lidos do servidor sao faixas de bytes; a linha inicial nao e conhecida.
+ALTER TABLE importacao_chunk ALTER COLUMN linha_inicial DROP NOT NULL;
+
+ALTER TABLE importacao_chunk ADD COLUMN IF NOT EXISTS byte_inicial BIGINT;
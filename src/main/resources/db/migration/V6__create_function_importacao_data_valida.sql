@@ -0,0 +1,13 @@
+-- Valida datas yyyy-MM-dd na importacao via tabela de staging sem depender de excecao por linha:
+-- o formato e conferido por regex e o dia contra o tamanho do mes, antes de qualquer cast.
+CREATE OR REPLACE FUNCTION importacao_data_valida(valor TEXT) RETURNS BOOLEAN
+    LANGUAGE sql IMMUTABLE AS $$
+    SELECT CASE
+        WHEN valor IS NULL
+            OR valor !~ '^[0-9]{4}-(0[1-9]|1[0-2])-(0[1-9]|[12][0-9]|3[01])$'
+            OR substr(valor, 1, 4) = '0000'
+            THEN FALSE
+        ELSE substr(valor, 9, 2)::int <= extract(DAY FROM make_date(substr(valor, 1, 4)::int, substr(valor, 6, 2)::int, 1)
+                                                      + INTERVAL '1 month - 1 day')
+    END
+$$;
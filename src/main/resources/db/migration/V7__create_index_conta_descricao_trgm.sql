@@ -0,0 +1,9 @@
+-- Busca por descricao com ILIKE '%termo%': nenhum indice btree atende um padrao com curinga no inicio,
+-- entao o filtro varria todo o periodo de vencimento. O indice de trigramas atende o ILIKE diretamente e o
+-- planner pode combina-lo (BitmapAnd) com o indice de data_vencimento.
+-- O GIN sobre uma tabela grande demora a ser construido: CONCURRENTLY nao bloqueia as escritas em conta, por isso a
+-- migracao roda fora de transacao (V7__create_index_conta_descricao_trgm.sql.conf).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_conta_descricao_trgm
+    ON conta USING gin (descricao gin_trgm_ops);
@@ -0,0 +1,112 @@
+-- Total pago por dia de pagamento, para que /total-pago some dias em vez de contas. Mantido por triggers por
+-- comando (nao por linha) sobre conta, com tabelas de transicao: cada INSERT, COPY, UPDATE ou DELETE agrega as
+-- proprias linhas e aplica um unico upsert por dia, o que cobre a API, todos os motores de importacao e as
+-- atualizacoes em lote. Os upserts seguem a ordem de data_pagamento para que transacoes concorrentes travem
+-- os dias sempre na mesma ordem.
+CREATE TABLE IF NOT EXISTS conta_pagamento_diario (
+     data_pagamento DATE PRIMARY KEY,
+     valor_total DECIMAL(19,2) NOT NULL,
+     quantidade BIGINT NOT NULL
+);
+
+INSERT INTO conta_pagamento_diario (data_pagamento, valor_total, quantidade)
+SELECT data_pagamento, sum(valor), count(*)
+FROM conta
+WHERE situacao = 'PAGA' AND data_pagamento IS NOT NULL
+GROUP BY data_pagamento
+ON CONFLICT (data_pagamento) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION conta_pagamento_diario_inserir() RETURNS TRIGGER
+    LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO conta_pagamento_diario (data_pagamento, valor_total, quantidade)
+    SELECT data_pagamento, sum(valor), count(*)
+    FROM novas
+    WHERE situacao = 'PAGA' AND data_pagamento IS NOT NULL
+    GROUP BY data_pagamento
+    ORDER BY data_pagamento
+    ON CONFLICT (data_pagamento) DO UPDATE
+        SET valor_total = conta_pagamento_diario.valor_total + EXCLUDED.valor_total,
+            quantidade = conta_pagamento_diario.quantidade + EXCLUDED.quantidade;
+    RETURN NULL;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION conta_pagamento_diario_atualizar() RETURNS TRIGGER
+    LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO conta_pagamento_diario (data_pagamento, valor_total, quantidade)
+    SELECT data_pagamento, sum(valor), sum(sinal)
+    FROM (
+        SELECT data_pagamento, valor, 1 AS sinal
+        FROM novas
+        WHERE situacao = 'PAGA' AND data_pagamento IS NOT NULL
+        UNION ALL
+        SELECT data_pagamento, -valor, -1
+        FROM antigas
+        WHERE situacao = 'PAGA' AND data_pagamento IS NOT NULL
+    ) delta
+    GROUP BY data_pagamento
+    HAVING sum(valor) <> 0 OR sum(sinal) <> 0
+    ORDER BY data_pagamento
+    ON CONFLICT (data_pagamento) DO UPDATE
+        SET valor_total = conta_pagamento_diario.valor_total + EXCLUDED.valor_total,
+            quantidade = conta_pagamento_diario.quantidade + EXCLUDED.quantidade;
+
+    DELETE FROM conta_pagamento_diario
+    WHERE quantidade = 0
+      AND data_pagamento IN (SELECT data_pagamento FROM antigas WHERE situacao = 'PAGA');
+    RETURN NULL;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION conta_pagamento_diario_excluir() RETURNS TRIGGER
+    LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO conta_pagamento_diario (data_pagamento, valor_total, quantidade)
+    SELECT data_pagamento, -sum(valor), -count(*)
+    FROM antigas
+    WHERE situacao = 'PAGA' AND data_pagamento IS NOT NULL
+    GROUP BY data_pagamento
+    ORDER BY data_pagamento
+    ON CONFLICT (data_pagamento) DO UPDATE
+        SET valor_total = conta_pagamento_diario.valor_total + EXCLUDED.valor_total,
+            quantidade = conta_pagamento_diario.quantidade + EXCLUDED.quantidade;
+
+    DELETE FROM conta_pagamento_diario
+    WHERE quantidade = 0
+      AND data_pagamento IN (SELECT data_pagamento FROM antigas WHERE situacao = 'PAGA');
+    RETURN NULL;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION conta_pagamento_diario_limpar() RETURNS TRIGGER
+    LANGUAGE plpgsql AS $$
+BEGIN
+    TRUNCATE conta_pagamento_diario;
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_conta_pagamento_diario_insert ON conta;
+CREATE TRIGGER trg_conta_pagamento_diario_insert
+    AFTER INSERT ON conta
+    REFERENCING NEW TABLE AS novas
+    FOR EACH STATEMENT EXECUTE FUNCTION conta_pagamento_diario_inserir();
+
+DROP TRIGGER IF EXISTS trg_conta_pagamento_diario_update ON conta;
+CREATE TRIGGER trg_conta_pagamento_diario_update
+    AFTER UPDATE ON conta
+    REFERENCING OLD TABLE AS antigas NEW TABLE AS novas
+    FOR EACH STATEMENT EXECUTE FUNCTION conta_pagamento_diario_atualizar();
+
+DROP TRIGGER IF EXISTS trg_conta_pagamento_diario_delete ON conta;
+CREATE TRIGGER trg_conta_pagamento_diario_delete
+    AFTER DELETE ON conta
+    REFERENCING OLD TABLE AS antigas
+    FOR EACH STATEMENT EXECUTE FUNCTION conta_pagamento_diario_excluir();
+
+DROP TRIGGER IF EXISTS trg_conta_pagamento_diario_truncate ON conta;
+CREATE TRIGGER trg_conta_pagamento_diario_truncate
+    AFTER TRUNCATE ON conta
+    FOR EACH STATEMENT EXECUTE FUNCTION conta_pagamento_diario_limpar();
@@ -0,0 +1,6 @@
+-- Checkpoints por linhas (leitura sequencial) e por faixas de bytes (arquivo do servidor mapeado) nao sao
+-- intercambiaveis: o manifesto guarda a unidade dos seus chunks, e tamanho_chunk e medido nessa unidade.
+ALTER TABLE importacao ADD COLUMN IF NOT EXISTS tipo_checkpoint VARCHAR(20) NOT NULL DEFAULT 'LINHAS';
+
+UPDATE importacao i SET tipo_checkpoint = 'FAIXAS_BYTES'
+WHERE EXISTS (SELECT 1 FROM importacao_chunk c WHERE c.importacao_id = i.id AND c.byte_inicial IS NOT NULL);
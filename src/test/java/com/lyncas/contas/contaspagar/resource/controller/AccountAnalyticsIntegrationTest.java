@@ -0,0 +1,117 @@
+package com.lyncas.contas.contaspagar.resource.controller;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.domain.repository.AccountAnalyticsRepository;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountAnalyticsGroupDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import com.lyncas.contas.contaspagar.service.AccountAnalyticsService;
+import com.lyncas.contas.contaspagar.service.AccountService;
+import com.lyncas.contas.contaspagar.service.cache.AccountReadCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Executa o GROUP BY CUBE da analise contra o banco e confere a leitura do GROUPING(): as dimensoes de cada grupo e
+ * a diferenca entre o mes de pagamento nulo das contas sem pagamento e o mes agregado.
+ */
+@SpringBootTest
+class AccountAnalyticsIntegrationTest {
+
+    private static final LocalDate START = LocalDate.of(2093, 1, 1);
+    private static final LocalDate END = LocalDate.of(2093, 2, 28);
+
+    @Autowired
+    private AccountAnalyticsService accountAnalyticsService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountReadCache accountReadCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM conta WHERE data_vencimento BETWEEN ? AND ?", START, END.plusMonths(1));
+        accountReadCache.invalidateAll();
+        create(LocalDate.of(2093, 1, 10), LocalDate.of(2093, 1, 15), AccountStatusEnum.PAGA, "100.00");
+        create(LocalDate.of(2093, 1, 20), LocalDate.of(2093, 2, 5), AccountStatusEnum.PAGA, "50.00");
+        create(LocalDate.of(2093, 1, 25), null, AccountStatusEnum.PENDENTE, "30.00");
+        create(LocalDate.of(2093, 2, 10), null, AccountStatusEnum.PENDENTE, "20.00");
+        create(LocalDate.of(2093, 3, 10), null, AccountStatusEnum.PENDENTE, "999.00");
+    }
+
+    @Test
+    @DisplayName("Deve trazer o total geral das contas do periodo de vencimento")
+    void grandTotal() {
+        AccountAnalyticsGroupDTO total = group(List.of(), null, null, null);
+
+        assertEquals(4, total.getQuantidade());
+        assertEquals(0, new BigDecimal("200.00").compareTo(total.getValorTotal()));
+    }
+
+    @Test
+    @DisplayName("Deve trazer os grupos de uma unica dimensao")
+    void singleDimensionGroups() {
+        AccountAnalyticsGroupDTO paid = group(List.of(AccountAnalyticsRepository.SITUACAO), AccountStatusEnum.PAGA, null, null);
+        assertEquals(2, paid.getQuantidade());
+        assertEquals(0, new BigDecimal("150.00").compareTo(paid.getValorTotal()));
+
+        AccountAnalyticsGroupDTO dueInJanuary = group(List.of(AccountAnalyticsRepository.MES_VENCIMENTO), null,
+                YearMonth.of(2093, 1), null);
+        assertEquals(3, dueInJanuary.getQuantidade());
+        assertEquals(0, new BigDecimal("180.00").compareTo(dueInJanuary.getValorTotal()));
+    }
+
+    @Test
+    @DisplayName("Deve separar o grupo das contas sem pagamento do mes de pagamento agregado")
+    void unpaidGroupHasNullMesPagamento() {
+        AccountAnalyticsGroupDTO unpaid = group(List.of(AccountAnalyticsRepository.MES_PAGAMENTO), null, null, null);
+        assertEquals(2, unpaid.getQuantidade());
+        assertEquals(0, new BigDecimal("50.00").compareTo(unpaid.getValorTotal()));
+
+        AccountAnalyticsGroupDTO pendingUnpaid = group(List.of(AccountAnalyticsRepository.SITUACAO,
+                AccountAnalyticsRepository.MES_PAGAMENTO), AccountStatusEnum.PENDENTE, null, null);
+        assertEquals(2, pendingUnpaid.getQuantidade());
+
+        AccountAnalyticsGroupDTO pending = group(List.of(AccountAnalyticsRepository.SITUACAO),
+                AccountStatusEnum.PENDENTE, null, null);
+        assertEquals(2, pending.getQuantidade());
+    }
+
+    private AccountAnalyticsGroupDTO group(List<String> dimensoes, AccountStatusEnum situacao, YearMonth mesVencimento,
+                                           YearMonth mesPagamento) {
+        List<AccountAnalyticsGroupDTO> matches = accountAnalyticsService.getAnalytics(START, END).stream()
+                .filter(group -> group.getDimensoes().equals(dimensoes)
+                        && group.getSituacao() == situacao
+                        && Objects.equals(group.getMesVencimento(), mesVencimento)
+                        && Objects.equals(group.getMesPagamento(), mesPagamento))
+                .toList();
+        assertEquals(1, matches.size(), "grupos com dimensoes " + dimensoes);
+        return matches.get(0);
+    }
+
+    private void create(LocalDate dataVencimento, LocalDate dataPagamento, AccountStatusEnum situacao, String valor) {
+        AccountDTO accountDTO = new AccountDTO();
+        accountDTO.setDataVencimento(dataVencimento);
+        accountDTO.setDataPagamento(dataPagamento);
+        accountDTO.setValor(new BigDecimal(valor));
+        accountDTO.setDescricao("Analise");
+        accountDTO.setSituacao(situacao);
+        accountService.create(accountDTO);
+    }
+}
@@ -0,0 +1,216 @@
+package com.lyncas.contas.contaspagar.resource.controller;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import com.lyncas.contas.contaspagar.service.AccountService;
+import com.lyncas.contas.contaspagar.service.cache.AccountReadCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Executa a troca de situacao em lote contra o banco: ordem dos parametros do UPDATE montado, contas ja na
+ * situacao final puladas, data de pagamento resultante, data anterior devolvida para invalidar o cache e o total
+ * pago por dia mantido pelos triggers.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AccountBulkStatusIntegrationTest {
+
+    private static final LocalDate START = LocalDate.of(2092, 1, 1);
+    private static final LocalDate END = LocalDate.of(2092, 12, 31);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountReadCache accountReadCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        jdbcTemplate.update("DELETE FROM conta WHERE data_vencimento BETWEEN ? AND ?", START, END);
+        accountReadCache.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Deve pagar por ids com a data informada, pulando a conta que ja esta paga nessa data")
+    void payByIdsWithDataPagamento() throws Exception {
+        LocalDate paidOn = LocalDate.of(2092, 1, 20);
+        Long pending = create(LocalDate.of(2092, 1, 10), null, AccountStatusEnum.PENDENTE, "10.00");
+        Long pendingWithDate = create(LocalDate.of(2092, 1, 11), LocalDate.of(2092, 1, 5), AccountStatusEnum.PENDENTE, "20.00");
+        Long alreadyPaid = create(LocalDate.of(2092, 1, 12), paidOn, AccountStatusEnum.PAGA, "30.00");
+
+        changeStatus("""
+                {"situacao": "PAGA", "dataPagamento": "2092-01-20", "ids": [%d, %d, %d]}
+                """.formatted(pending, pendingWithDate, alreadyPaid))
+                .andExpect(jsonPath("$.atualizadas").value(2))
+                .andExpect(jsonPath("$.comandos").value(1));
+
+        assertAccount(pending, AccountStatusEnum.PAGA, paidOn);
+        assertAccount(pendingWithDate, AccountStatusEnum.PAGA, paidOn);
+        assertAccount(alreadyPaid, AccountStatusEnum.PAGA, paidOn);
+        assertTotalPaid(paidOn, paidOn, "60.00");
+    }
+
+    @Test
+    @DisplayName("Deve pagar por ids sem data informada mantendo a data de cada conta")
+    void payByIdsKeepsOwnDataPagamento() throws Exception {
+        LocalDate ownDate = LocalDate.of(2092, 2, 5);
+        Long withDate = create(LocalDate.of(2092, 2, 10), ownDate, AccountStatusEnum.PENDENTE, "15.00");
+        Long withoutDate = create(LocalDate.of(2092, 2, 11), null, AccountStatusEnum.PENDENTE, "25.00");
+
+        changeStatus("""
+                {"situacao": "PAGA", "ids": [%d, %d]}
+                """.formatted(withDate, withoutDate))
+                .andExpect(jsonPath("$.atualizadas").value(2));
+
+        assertAccount(withDate, AccountStatusEnum.PAGA, ownDate);
+        assertAccount(withoutDate, AccountStatusEnum.PAGA, null);
+        assertTotalPaid(START, END, "15.00");
+    }
+
+    @Test
+    @DisplayName("Deve mudar a data de conta ja paga e invalidar o total do dia anterior")
+    void redateByIdsInvalidatesPreviousDay() throws Exception {
+        LocalDate previous = LocalDate.of(2092, 3, 5);
+        Long paid = create(LocalDate.of(2092, 3, 10), previous, AccountStatusEnum.PAGA, "40.00");
+        assertTotalPaid(previous, previous, "40.00");
+
+        changeStatus("""
+                {"situacao": "PAGA", "dataPagamento": "2092-03-25", "ids": [%d]}
+                """.formatted(paid))
+                .andExpect(jsonPath("$.atualizadas").value(1));
+
+        assertAccount(paid, AccountStatusEnum.PAGA, LocalDate.of(2092, 3, 25));
+        assertTotalPaid(previous, previous, "0");
+        assertTotalPaid(START, END, "40.00");
+    }
+
+    @Test
+    @DisplayName("Deve cancelar por ids mantendo a data de pagamento e tirando a conta do total pago")
+    void cancelByIds() throws Exception {
+        LocalDate paidOn = LocalDate.of(2092, 4, 5);
+        Long paid = create(LocalDate.of(2092, 4, 10), paidOn, AccountStatusEnum.PAGA, "50.00");
+        Long cancelled = create(LocalDate.of(2092, 4, 11), null, AccountStatusEnum.CANCELADA, "60.00");
+        assertTotalPaid(paidOn, paidOn, "50.00");
+
+        changeStatus("""
+                {"situacao": "CANCELADA", "ids": [%d, %d]}
+                """.formatted(paid, cancelled))
+                .andExpect(jsonPath("$.atualizadas").value(1));
+
+        assertAccount(paid, AccountStatusEnum.CANCELADA, paidOn);
+        assertAccount(cancelled, AccountStatusEnum.CANCELADA, null);
+        assertTotalPaid(paidOn, paidOn, "0");
+    }
+
+    @Test
+    @DisplayName("Deve pagar por filtro apenas as contas do periodo na situacao atual")
+    void payByFilter() throws Exception {
+        LocalDate paidOn = LocalDate.of(2092, 5, 31);
+        Long inPeriod = create(LocalDate.of(2092, 5, 10), null, AccountStatusEnum.PENDENTE, "70.00");
+        Long inPeriodToo = create(LocalDate.of(2092, 5, 20), null, AccountStatusEnum.PENDENTE, "80.00");
+        Long otherSituacao = create(LocalDate.of(2092, 5, 15), null, AccountStatusEnum.CANCELADA, "90.00");
+        Long outOfPeriod = create(LocalDate.of(2092, 6, 1), null, AccountStatusEnum.PENDENTE, "100.00");
+
+        changeStatus("""
+                {"situacao": "PAGA", "dataPagamento": "2092-05-31",
+                 "startDate": "2092-05-01", "endDate": "2092-05-31", "situacaoAtual": "PENDENTE"}
+                """)
+                .andExpect(jsonPath("$.atualizadas").value(2));
+
+        assertAccount(inPeriod, AccountStatusEnum.PAGA, paidOn);
+        assertAccount(inPeriodToo, AccountStatusEnum.PAGA, paidOn);
+        assertAccount(otherSituacao, AccountStatusEnum.CANCELADA, null);
+        assertAccount(outOfPeriod, AccountStatusEnum.PENDENTE, null);
+        assertTotalPaid(paidOn, paidOn, "150.00");
+    }
+
+    @Test
+    @DisplayName("Deve reabrir por filtro as contas pagas do periodo mantendo a data de pagamento")
+    void reopenByFilter() throws Exception {
+        LocalDate paidOn = LocalDate.of(2092, 7, 5);
+        Long paid = create(LocalDate.of(2092, 7, 10), paidOn, AccountStatusEnum.PAGA, "110.00");
+        Long paidToo = create(LocalDate.of(2092, 7, 11), paidOn, AccountStatusEnum.PAGA, "120.00");
+        assertTotalPaid(paidOn, paidOn, "230.00");
+
+        changeStatus("""
+                {"situacao": "PENDENTE", "startDate": "2092-07-01", "endDate": "2092-07-31", "situacaoAtual": "PAGA"}
+                """)
+                .andExpect(jsonPath("$.atualizadas").value(2));
+
+        assertAccount(paid, AccountStatusEnum.PENDENTE, paidOn);
+        assertAccount(paidToo, AccountStatusEnum.PENDENTE, paidOn);
+        assertTotalPaid(paidOn, paidOn, "0");
+    }
+
+    private Long create(LocalDate dataVencimento, LocalDate dataPagamento, AccountStatusEnum situacao, String valor) {
+        AccountDTO accountDTO = new AccountDTO();
+        accountDTO.setDataVencimento(dataVencimento);
+        accountDTO.setDataPagamento(dataPagamento);
+        accountDTO.setValor(new BigDecimal(valor));
+        accountDTO.setDescricao("Situacao em lote");
+        accountDTO.setSituacao(situacao);
+        return accountService.create(accountDTO).getId();
+    }
+
+    private ResultActions changeStatus(String json) throws Exception {
+        return mockMvc.perform(patch("/api/v1/accounts/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isOk());
+    }
+
+    private void assertAccount(Long id, AccountStatusEnum situacao, LocalDate dataPagamento) {
+        List<Object[]> rows = jdbcTemplate.query("SELECT situacao, data_pagamento FROM conta WHERE id = ?",
+                (rs, rowNum) -> new Object[] {rs.getString("situacao"), rs.getObject("data_pagamento", LocalDate.class)}, id);
+        assertEquals(1, rows.size());
+        assertEquals(situacao.name(), rows.get(0)[0], "situacao da conta " + id);
+        assertEquals(dataPagamento, rows.get(0)[1], "data de pagamento da conta " + id);
+    }
+
+    /**
+     * Confere /total-pago (rollup por dia, em cache) contra a soma direta em conta e contra o valor esperado.
+     */
+    private void assertTotalPaid(LocalDate startDate, LocalDate endDate, String expected) throws Exception {
+        BigDecimal direct = jdbcTemplate.queryForObject("""
+                SELECT COALESCE(sum(valor), 0) FROM conta
+                WHERE situacao = 'PAGA' AND data_pagamento BETWEEN ? AND ?
+                """, BigDecimal.class, startDate, endDate);
+        String body = mockMvc.perform(get("/api/v1/accounts/total-pago")
+                        .param("startDate", startDate.toString())
+                        .param("endDate", endDate.toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        BigDecimal totalPaid = body.isEmpty() ? BigDecimal.ZERO : new BigDecimal(body);
+        assertEquals(0, new BigDecimal(expected).compareTo(direct), "soma em conta " + direct);
+        assertEquals(0, direct.compareTo(totalPaid), "total-pago " + totalPaid + ", soma em conta " + direct);
+    }
+}
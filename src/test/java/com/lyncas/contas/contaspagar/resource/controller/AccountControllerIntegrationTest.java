@@ -168,6 +168,7 @@ class AccountControllerIntegrationTest {
 
         mockMvc.perform(multipart("/api/v1/accounts/import")
                         .file(file))
-                .andExpect(status().isCreated());
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").isNotEmpty());
     }
 }
@@ -3,34 +3,73 @@ package com.lyncas.contas.contaspagar.resource.controller;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.domain.enums.ExportFormatEnum;
+import com.lyncas.contas.contaspagar.domain.enums.ImportEngineEnum;
 import com.lyncas.contas.contaspagar.resource.controller.v1.AccountController;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountAnalyticsGroupDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountBulkCreateResultDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountBulkStatusDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountBulkStatusResultDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountCursorPageDTO;
 import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountLookupDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountLookupResultDTO;
 import com.lyncas.contas.contaspagar.resource.dto.v1.AlterStatusDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.ImportJobDTO;
+import com.lyncas.contas.contaspagar.resource.mapper.v1.ImportJobMapper;
+import com.lyncas.contas.contaspagar.service.AccountAnalyticsService;
+import com.lyncas.contas.contaspagar.service.AccountBulkCreateService;
+import com.lyncas.contas.contaspagar.service.AccountExportService;
 import com.lyncas.contas.contaspagar.service.AccountService;
+import com.lyncas.contas.contaspagar.service.ImportJob;
+import com.lyncas.contas.contaspagar.service.ImportJobService;
+import com.lyncas.contas.contaspagar.service.ImportOptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 
 class AccountControllerTest {
 
     @Mock
     private AccountService accountService;
 
+    @Mock
+    private AccountBulkCreateService accountBulkCreateService;
+
+    @Mock
+    private AccountAnalyticsService accountAnalyticsService;
+
+    @Mock
+    private AccountExportService accountExportService;
+
+    @Mock
+    private ImportJobService importJobService;
+
+    @Spy
+    private ImportJobMapper importJobMapper = new ImportJobMapper();
+
     @InjectMocks
     private AccountController accountController;
 
@@ -92,26 +131,128 @@ class AccountControllerTest {
         String descricao = "Servico";
         Pageable pageable = PageRequest.of(0, 10);
         Page<AccountDTO> accounts = new PageImpl<>(Collections.singletonList(new AccountDTO()));
-        when(accountService.listByDataVencimentoAndDescricao(startDate, endDate, descricao, pageable)).thenReturn(accounts);
+        when(accountService.listByDataVencimentoAndDescricao(startDate, endDate, descricao, false, pageable)).thenReturn(accounts);
 
-        ResponseEntity<Page<AccountDTO>> response = accountController.listAccounts(startDate, endDate, descricao, pageable);
+        ResponseEntity<Page<AccountDTO>> response = accountController.listAccounts(startDate, endDate, descricao, false, pageable);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(1, response.getBody().getTotalElements());
     }
 
+    @Test
+    void listAccountsByCursorSuccessfully() {
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = LocalDate.now().plusDays(1);
+        AccountCursorPageDTO page = new AccountCursorPageDTO.Builder()
+                .content(Collections.singletonList(new AccountDTO()))
+                .nextCursor("MjAyNS0wMS0xNTo0MjE")
+                .size(1)
+                .build();
+        when(accountService.listByDataVencimentoAndDescricaoAfter(startDate, endDate, "Servico", null, 1)).thenReturn(page);
+
+        ResponseEntity<AccountCursorPageDTO> response = accountController.listAccountsByCursor(startDate, endDate, "Servico", null, 1);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("MjAyNS0wMS0xNTo0MjE", response.getBody().getNextCursor());
+    }
+
+    @Test
+    void exportAccountsStreamsBodyAsAttachment() throws IOException {
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 1, 31);
+        var out = new ByteArrayOutputStream();
+
+        ResponseEntity<StreamingResponseBody> response = accountController.exportAccounts(startDate, endDate, ExportFormatEnum.NDJSON);
+        verify(accountExportService, never()).export(any(), any(), any(), any());
+        response.getBody().writeTo(out);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals("contas_2025-01-01_2025-01-31.ndjson", response.getHeaders().getContentDisposition().getFilename());
+        verify(accountExportService).checkPeriod(startDate, endDate);
+        verify(accountExportService).export(startDate, endDate, ExportFormatEnum.NDJSON, out);
+    }
+
     @Test
     void getAccountByIdSuccessfully() {
         Long id = 1L;
         AccountDTO accountDTO = new AccountDTO();
         when(accountService.getAccountById(id)).thenReturn(accountDTO);
 
-        ResponseEntity<AccountDTO> response = accountController.getAccountById(id);
+        ResponseEntity<AccountDTO> response = accountController.getAccountById(id, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(accountDTO, response.getBody());
     }
 
+    @Test
+    void getAccountByIdAnswersNotModifiedWhileETagMatches() {
+        Long id = 1L;
+        AccountDTO accountDTO = new AccountDTO.Builder()
+                .id(id)
+                .updatedAt(LocalDateTime.of(2025, 1, 8, 18, 5, 49, 546_000_000))
+                .build();
+        when(accountService.getAccountById(id)).thenReturn(accountDTO);
+        String etag = accountController.getAccountById(id, null).getHeaders().getETag();
+
+        ResponseEntity<AccountDTO> notModified = accountController.getAccountById(id, "W/\"outro\", " + etag);
+        ResponseEntity<AccountDTO> stale = accountController.getAccountById(id, "\"1-0\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertNull(notModified.getBody());
+        assertEquals(etag, notModified.getHeaders().getETag());
+        assertEquals(HttpStatus.OK, stale.getStatusCode());
+        assertEquals(accountDTO, stale.getBody());
+    }
+
+    @Test
+    void createAccountsSuccessfully() throws IOException {
+        var body = new ByteArrayInputStream("[]".getBytes());
+        AccountBulkCreateResultDTO result = new AccountBulkCreateResultDTO.Builder()
+                .itens(Collections.emptyList())
+                .build();
+        when(accountBulkCreateService.create(body)).thenReturn(result);
+
+        ResponseEntity<AccountBulkCreateResultDTO> response = accountController.createAccounts(body);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+    }
+
+    @Test
+    void changeStatusInBulkSuccessfully() {
+        AccountBulkStatusDTO request = new AccountBulkStatusDTO();
+        request.setSituacao(AccountStatusEnum.PAGA);
+        request.setIds(List.of(1L, 2L));
+        AccountBulkStatusResultDTO result = new AccountBulkStatusResultDTO.Builder()
+                .situacao(AccountStatusEnum.PAGA)
+                .atualizadas(2)
+                .comandos(1)
+                .build();
+        when(accountService.changeStatusInBulk(request)).thenReturn(result);
+
+        ResponseEntity<AccountBulkStatusResultDTO> response = accountController.changeStatusInBulk(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+    }
+
+    @Test
+    void lookupAccountsSuccessfully() {
+        AccountLookupDTO request = new AccountLookupDTO();
+        request.setIds(List.of(1L, 51L));
+        AccountLookupResultDTO result = new AccountLookupResultDTO.Builder()
+                .contas(List.of(new AccountDTO.Builder().id(1L).build()))
+                .naoEncontrados(List.of(51L))
+                .build();
+        when(accountService.lookup(List.of(1L, 51L))).thenReturn(result);
+
+        ResponseEntity<AccountLookupResultDTO> response = accountController.lookupAccounts(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+    }
+
     @Test
     void getTotalPaidSuccessfully() {
         LocalDate startDate = LocalDate.now();
@@ -125,14 +266,73 @@ class AccountControllerTest {
         assertEquals(totalPaid, response.getBody());
     }
 
+    @Test
+    void getAnalyticsSuccessfully() {
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 12, 31);
+        List<AccountAnalyticsGroupDTO> groups = List.of(new AccountAnalyticsGroupDTO.Builder()
+                .dimensoes(List.of())
+                .quantidade(1)
+                .valorTotal(BigDecimal.TEN)
+                .build());
+        when(accountAnalyticsService.getAnalytics(startDate, endDate)).thenReturn(groups);
+
+        ResponseEntity<List<AccountAnalyticsGroupDTO>> response = accountController.getAnalytics(startDate, endDate);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(groups, response.getBody());
+    }
+
     @Test
     void importAccountsSuccessfully() throws IOException {
         MultipartFile file = mock(MultipartFile.class);
         when(file.getInputStream()).thenReturn(new ByteArrayInputStream("dataVencimento,dataPagamento,valor,descricao,situacao\n2023-01-01,2023-01-02,100.00,Servico,PAGA".getBytes()));
+        when(file.getOriginalFilename()).thenReturn("contas.csv");
+        ImportJob job = new ImportJob("contas.csv", ImportEngineEnum.JPA);
+        when(importJobService.submit(any(), eq("contas.csv"), eq(ImportOptions.defaults()))).thenReturn(job);
 
-        ResponseEntity<Void> response = accountController.importAccounts(file);
+        ResponseEntity<ImportJobDTO> response = accountController.importAccounts(file, null, null);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(job.getId(), response.getBody().getJobId());
+        verifyNoInteractions(accountService);
+    }
+
+    @Test
+    void importAccountsWithCopyEngine() throws IOException {
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream("dataVencimento,dataPagamento,valor,descricao,situacao\n2023-01-01,2023-01-02,100.00,Servico,PAGA".getBytes()));
+        when(file.getOriginalFilename()).thenReturn("contas.csv");
+        when(importJobService.submit(any(), any(), eq(new ImportOptions(ImportEngineEnum.COPY, null))))
+                .thenReturn(new ImportJob("contas.csv", ImportEngineEnum.COPY));
+
+        ResponseEntity<ImportJobDTO> response = accountController.importAccounts(file, ImportEngineEnum.COPY, null);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(ImportEngineEnum.COPY, response.getBody().getEngine());
+    }
+
+    @Test
+    void importAccountsStreamSuccessfully() {
+        var body = new ByteArrayInputStream("dataVencimento,dataPagamento,valor,descricao,situacao\n2023-01-01,2023-01-02,100.00,Servico,PAGA".getBytes());
+        ImportJob job = new ImportJob("contas.csv", ImportEngineEnum.COPY, null, true);
+        when(importJobService.importStream(body, "contas.csv", new ImportOptions(ImportEngineEnum.COPY, true))).thenReturn(job);
+
+        ResponseEntity<ImportJobDTO> response = accountController.importAccountsStream(body, "contas.csv", ImportEngineEnum.COPY, true);
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
-        verify(accountService).importAccounts(any());
+        assertEquals(job.getId(), response.getBody().getJobId());
+        assertTrue(response.getBody().isDedup());
+    }
+
+    @Test
+    void getImportJobSuccessfully() {
+        ImportJob job = new ImportJob("contas.csv", ImportEngineEnum.JPA);
+        when(importJobService.getJob(job.getId())).thenReturn(job);
+
+        ResponseEntity<ImportJobDTO> response = accountController.getImportJob(job.getId());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(job.getStatus(), response.getBody().getStatus());
     }
 }
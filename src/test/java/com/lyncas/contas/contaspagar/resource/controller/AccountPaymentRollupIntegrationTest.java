@@ -0,0 +1,170 @@
+package com.lyncas.contas.contaspagar.resource.controller;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.domain.repository.AccountRepository;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import com.lyncas.contas.contaspagar.service.AccountService;
+import com.lyncas.contas.contaspagar.service.cache.AccountReadCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Confere o total pago por dia (conta_pagamento_diario, mantido pelos triggers da V8) contra a soma direta em conta
+ * depois de cada tipo de escrita que muda o que foi pago.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AccountPaymentRollupIntegrationTest {
+
+    private static final LocalDate START = LocalDate.of(2091, 1, 1);
+    private static final LocalDate END = LocalDate.of(2091, 12, 31);
+
+    private static final String ROLLUP_SQL = """
+            SELECT data_pagamento || ' ' || valor_total || ' ' || quantidade FROM conta_pagamento_diario
+            WHERE data_pagamento BETWEEN ? AND ?
+            ORDER BY data_pagamento
+            """;
+
+    private static final String DIRECT_SQL = """
+            SELECT data_pagamento || ' ' || sum(valor) || ' ' || count(*) FROM conta
+            WHERE situacao = 'PAGA' AND data_pagamento BETWEEN ? AND ?
+            GROUP BY data_pagamento
+            ORDER BY data_pagamento
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountReadCache accountReadCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Test
+    @DisplayName("Deve somar no total pago a conta criada como paga")
+    void createPaidAccount() throws Exception {
+        createAccount(LocalDate.of(2091, 1, 10), AccountStatusEnum.PAGA, "125.50");
+
+        assertTotalPaidMatchesConta();
+    }
+
+    @Test
+    @DisplayName("Deve somar no total pago a conta que passa a paga")
+    void payAccount() throws Exception {
+        AccountDTO account = createAccount(LocalDate.of(2091, 2, 10), AccountStatusEnum.PENDENTE, "80.00");
+        assertTotalPaidMatchesConta();
+
+        changeStatus(account.getId(), AccountStatusEnum.PAGA);
+
+        assertTotalPaidMatchesConta();
+    }
+
+    @Test
+    @DisplayName("Deve mover o valor entre os dias quando a data de pagamento muda")
+    void redatePayment() throws Exception {
+        AccountDTO account = createAccount(LocalDate.of(2091, 3, 10), AccountStatusEnum.PAGA, "42.10");
+
+        mockMvc.perform(put("/api/v1/accounts/" + account.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "dataVencimento": "2091-03-15",
+                                    "dataPagamento": "2091-03-20",
+                                    "valor": 42.10,
+                                    "descricao": "Consolidado por dia",
+                                    "situacao": "PAGA"
+                                }
+                                """))
+                .andExpect(status().isOk());
+
+        assertTotalPaidMatchesConta();
+    }
+
+    @Test
+    @DisplayName("Deve tirar do total pago a conta que deixa de ser paga")
+    void unpayAccount() throws Exception {
+        AccountDTO account = createAccount(LocalDate.of(2091, 4, 10), AccountStatusEnum.PAGA, "310.00");
+        assertTotalPaidMatchesConta();
+
+        changeStatus(account.getId(), AccountStatusEnum.PENDENTE);
+
+        assertTotalPaidMatchesConta();
+    }
+
+    @Test
+    @DisplayName("Deve tirar do total pago a conta paga excluida")
+    void deletePaidAccount() throws Exception {
+        AccountDTO account = createAccount(LocalDate.of(2091, 5, 10), AccountStatusEnum.PAGA, "99.99");
+        assertTotalPaidMatchesConta();
+
+        accountRepository.deleteById(account.getId());
+        accountReadCache.invalidate(account.getDataVencimento(), account.getDataPagamento());
+
+        assertTotalPaidMatchesConta();
+    }
+
+    private AccountDTO createAccount(LocalDate dataPagamento, AccountStatusEnum situacao, String valor) {
+        AccountDTO accountDTO = new AccountDTO();
+        accountDTO.setDataVencimento(dataPagamento.plusDays(5));
+        accountDTO.setDataPagamento(dataPagamento);
+        accountDTO.setValor(new BigDecimal(valor));
+        accountDTO.setDescricao("Consolidado por dia");
+        accountDTO.setSituacao(situacao);
+        return accountService.create(accountDTO);
+    }
+
+    private void changeStatus(Long id, AccountStatusEnum situacao) throws Exception {
+        mockMvc.perform(patch("/api/v1/accounts/" + id + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"situacao\": \"" + situacao + "\"}"))
+                .andExpect(status().isOk());
+    }
+
+    private void assertTotalPaidMatchesConta() throws Exception {
+        assertEquals(jdbcTemplate.queryForList(DIRECT_SQL, String.class, START, END),
+                jdbcTemplate.queryForList(ROLLUP_SQL, String.class, START, END));
+
+        BigDecimal expected = jdbcTemplate.queryForObject("""
+                SELECT COALESCE(sum(valor), 0) FROM conta
+                WHERE situacao = 'PAGA' AND data_pagamento BETWEEN ? AND ?
+                """, BigDecimal.class, START, END);
+        String body = mockMvc.perform(get("/api/v1/accounts/total-pago")
+                        .param("startDate", START.toString())
+                        .param("endDate", END.toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        BigDecimal totalPaid = body.isEmpty() ? BigDecimal.ZERO : new BigDecimal(body);
+        assertEquals(0, expected.compareTo(totalPaid), "total-pago " + totalPaid + ", soma em conta " + expected);
+    }
+}
@@ -0,0 +1,180 @@
+package com.lyncas.contas.contaspagar.resource.controller;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.domain.enums.ImportEngineEnum;
+import com.lyncas.contas.contaspagar.domain.model.Account;
+import com.lyncas.contas.contaspagar.domain.repository.AccountStagingRepository;
+import com.lyncas.contas.contaspagar.exception.AccountCsvParseException;
+import com.lyncas.contas.contaspagar.exception.ImportAccountException;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import com.lyncas.contas.contaspagar.service.AccountService;
+import com.lyncas.contas.contaspagar.service.ImportJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Executa a engine STAGING contra o banco: COPY para a tabela de staging, validacao em SQL com a primeira linha
+ * invalida, ids em blocos da sequence, descarte de duplicadas e checkpoints gravados na transacao do merge.
+ */
+@SpringBootTest
+class AccountStagingImportIntegrationTest {
+
+    private static final LocalDate START = LocalDate.of(2094, 1, 1);
+    private static final LocalDate END = LocalDate.of(2094, 12, 31);
+    private static final String HEADER = "dataVencimento,dataPagamento,valor,descricao,situacao\n";
+
+    @Autowired
+    private AccountStagingRepository accountStagingRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String table;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM conta WHERE data_vencimento BETWEEN ? AND ?", START, END);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (table != null) {
+            accountStagingRepository.dropTable(table);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recusar o merge na primeira linha invalida sem gravar nenhuma conta")
+    void mergeReportsFirstInvalidLine() {
+        table = accountStagingRepository.createTable();
+        long staged = accountStagingRepository.copyIn(table, """
+                1,2094-01-10,,10.00,Luz,PENDENTE
+                2,2094-01-11,2094-01-12,20.00,Agua,PAGA
+                3,2094-02-30,,30.00,Gas,PENDENTE
+                4,2094-13-01,,40.00,Internet,PENDENTE
+                """);
+
+        assertEquals(4, staged);
+        var exception = assertThrows(AccountCsvParseException.class,
+                () -> accountStagingRepository.merge(table, staged, null));
+        assertEquals("Linha 3: data_vencimento invalida: 2094-02-30", exception.getMessage());
+        assertEquals(0, countAccounts());
+    }
+
+    @Test
+    @DisplayName("Deve gravar as linhas com ids em blocos da sequence, na ordem das linhas")
+    void mergeAssignsIdsInBlocksInLineOrder() {
+        int rows = Account.ID_ALLOCATION_SIZE * 2 + 20;
+        StringBuilder csvRows = new StringBuilder();
+        for (int line = 1; line <= rows; line++) {
+            csvRows.append(line).append(",2094-03-10,,1.00,linha ").append(line).append(",pendente\n");
+        }
+        table = accountStagingRepository.createTable();
+        long staged = accountStagingRepository.copyIn(table, csvRows);
+        long sequenceBefore = lastSequenceValue();
+
+        long merged = accountStagingRepository.merge(table, staged, null);
+
+        assertEquals(rows, merged);
+        assertEquals(3L * Account.ID_ALLOCATION_SIZE, lastSequenceValue() - sequenceBefore);
+        List<Long> ids = jdbcTemplate.queryForList("""
+                SELECT id FROM conta WHERE data_vencimento = '2094-03-10'
+                ORDER BY substring(descricao FROM 7)::int
+                """, Long.class);
+        assertEquals(rows, new HashSet<>(ids).size());
+        assertEquals(ids.stream().sorted().toList(), ids);
+        assertTrue(ids.get(0) > sequenceBefore && ids.get(rows - 1) <= lastSequenceValue());
+        assertEquals(rows, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM conta WHERE data_vencimento = '2094-03-10' AND situacao = 'PENDENTE'", Long.class));
+    }
+
+    @Test
+    @DisplayName("Deve descartar no merge as linhas que ja existiam em conta")
+    void mergeSkipsDuplicates() {
+        AccountDTO existing = new AccountDTO();
+        existing.setDataVencimento(LocalDate.of(2094, 4, 10));
+        existing.setValor(new BigDecimal("10.00"));
+        existing.setDescricao("Duplicada");
+        existing.setSituacao(AccountStatusEnum.PENDENTE);
+        accountService.create(existing);
+        LocalDateTime createdBefore = LocalDateTime.now().plusSeconds(1);
+
+        table = accountStagingRepository.createTable();
+        long staged = accountStagingRepository.copyIn(table, """
+                1,2094-04-10,,10.00,Duplicada,PENDENTE
+                2,2094-04-10,,10.00,Nova,PENDENTE
+                """);
+
+        assertEquals(1, accountStagingRepository.merge(table, staged, createdBefore));
+        assertEquals(2, countAccounts());
+    }
+
+    @Test
+    @DisplayName("Deve gravar os checkpoints do arquivo na mesma transacao do merge")
+    void importCommitsCheckpointsWithMerge() {
+        String fileHash = UUID.randomUUID().toString().replace("-", "");
+        String csv = HEADER
+                + "2094-05-10,,10.00,Luz,PENDENTE\n"
+                + "2094-05-11,2094-05-12,20.00,Agua,PAGA\n"
+                + "2094-05-12,,30.00,Gas,CANCELADA\n";
+
+        ImportJob job = new ImportJob("staging.csv", ImportEngineEnum.STAGING, fileHash);
+        accountService.processImport(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), job, fileHash, "staging.csv");
+
+        assertEquals(3, job.getRowsPersisted());
+        assertEquals(3, countAccounts());
+        assertEquals(3L, committedLines(fileHash));
+    }
+
+    @Test
+    @DisplayName("Nao deve gravar checkpoints nem contas quando o merge falha")
+    void failedMergeCommitsNoCheckpoint() {
+        String fileHash = UUID.randomUUID().toString().replace("-", "");
+        String csv = HEADER
+                + "2094-06-10,,10.00,Luz,PENDENTE\n"
+                + "2094-06-11,,abc,Agua,PENDENTE\n";
+
+        ImportJob job = new ImportJob("staging.csv", ImportEngineEnum.STAGING, fileHash);
+        assertThrows(ImportAccountException.class, () -> accountService.processImport(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), job, fileHash, "staging.csv"));
+
+        assertEquals(0, countAccounts());
+        assertEquals(0L, committedLines(fileHash));
+    }
+
+    private long countAccounts() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM conta WHERE data_vencimento BETWEEN ? AND ?",
+                Long.class, START, END);
+    }
+
+    private long lastSequenceValue() {
+        return jdbcTemplate.queryForObject("SELECT last_value FROM conta_id_seq", Long.class);
+    }
+
+    private long committedLines(String fileHash) {
+        return jdbcTemplate.queryForObject("""
+                SELECT COALESCE(sum(c.quantidade_linhas), 0) FROM importacao_chunk c
+                JOIN importacao i ON i.id = c.importacao_id
+                WHERE i.hash_arquivo = ?
+                """, Long.class, fileHash);
+    }
+}
@@ -0,0 +1,57 @@
+package com.lyncas.contas.contaspagar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.lyncas.contas.contaspagar.domain.repository.AccountAnalyticsRepository;
+import com.lyncas.contas.contaspagar.infrastructure.config.AccountCacheProperties;
+import com.lyncas.contas.contaspagar.service.cache.AccountReadCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.List;
+
+class AccountAnalyticsServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 3, 31);
+
+    @Mock
+    private AccountAnalyticsRepository accountAnalyticsRepository;
+
+    private AccountReadCache accountReadCache;
+    private AccountAnalyticsService accountAnalyticsService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        accountReadCache = new AccountReadCache(new AccountCacheProperties());
+        accountAnalyticsService = new AccountAnalyticsService(accountAnalyticsRepository, accountReadCache);
+    }
+
+    @Test
+    void isCachedUntilAnAccountDueInThePeriodChanges() {
+        when(accountAnalyticsRepository.groupByDataVencimento(START, END)).thenReturn(List.of());
+
+        accountAnalyticsService.getAnalytics(START, END);
+        accountAnalyticsService.getAnalytics(START, END);
+        verify(accountAnalyticsRepository, times(1)).groupByDataVencimento(START, END);
+
+        accountReadCache.invalidate(LocalDate.of(2025, 6, 10));
+        accountAnalyticsService.getAnalytics(START, END);
+        verify(accountAnalyticsRepository, times(1)).groupByDataVencimento(START, END);
+
+        accountReadCache.invalidate(LocalDate.of(2025, 2, 10));
+        accountAnalyticsService.getAnalytics(START, END);
+        verify(accountAnalyticsRepository, times(2)).groupByDataVencimento(START, END);
+    }
+
+    @Test
+    void rejectsStartDateAfterEndDate() {
+        assertThrows(IllegalArgumentException.class, () -> accountAnalyticsService.getAnalytics(END, START));
+        verifyNoInteractions(accountAnalyticsRepository);
+    }
+}
@@ -0,0 +1,157 @@
+package com.lyncas.contas.contaspagar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lyncas.contas.contaspagar.domain.model.Account;
+import com.lyncas.contas.contaspagar.domain.repository.AccountBatchRepository;
+import com.lyncas.contas.contaspagar.domain.repository.AccountIdAllocator;
+import com.lyncas.contas.contaspagar.infrastructure.config.AccountCacheProperties;
+import com.lyncas.contas.contaspagar.infrastructure.config.ImportProperties;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountBulkCreateItemDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountBulkCreateResultDTO;
+import com.lyncas.contas.contaspagar.resource.mapper.v1.AccountMapper;
+import com.lyncas.contas.contaspagar.service.cache.AccountReadCache;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+class AccountBulkCreateServiceTest {
+
+    private static final String VALID = """
+            {"dataVencimento": "2025-01-10", "valor": 10.00, "descricao": "Luz", "situacao": "PENDENTE"}""";
+
+    @Mock
+    private AccountBatchRepository accountBatchRepository;
+
+    @Mock
+    private AccountIdAllocator accountIdAllocator;
+
+    private AccountBulkCreateService accountBulkCreateService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        var nextId = new AtomicLong(100);
+        when(accountIdAllocator.reserve(anyInt())).thenAnswer(invocation -> {
+            long[] ids = new long[invocation.<Integer>getArgument(0)];
+            Arrays.setAll(ids, i -> nextId.getAndIncrement());
+            return ids;
+        });
+        var adaptive = new ImportProperties.Adaptive();
+        adaptive.setMinChunkSize(1);
+        adaptive.setInitialChunkSize(2);
+        var objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        accountBulkCreateService = new AccountBulkCreateService(accountBatchRepository, accountIdAllocator,
+                new AccountMapper(), new AccountReadCache(new AccountCacheProperties()),
+                new ImportThrottle(adaptive, () -> 0, 50), objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    void createsNdjsonItemsInChunksWithIdsInOrder() throws IOException {
+        AccountBulkCreateResultDTO result = create(VALID + "\n" + VALID + "\n" + VALID + "\n");
+
+        assertEquals(3, result.getCriadas());
+        assertEquals(0, result.getRejeitadas());
+        assertNull(result.getErro());
+        assertEquals(List.of(100L, 101L, 102L), result.getItens().stream().map(AccountBulkCreateItemDTO::getId).toList());
+        verify(accountBatchRepository).insertAll(argThat((List<Account> accounts) -> accounts.size() == 2),
+                aryEq(new long[] {100L, 101L}));
+        verify(accountBatchRepository).insertAll(argThat((List<Account> accounts) -> accounts.size() == 1
+                && accounts.get(0).getValor().compareTo(BigDecimal.TEN) == 0), aryEq(new long[] {102L}));
+    }
+
+    @Test
+    void rejectsInvalidItemsOfJsonArrayAndCreatesTheRest() throws IOException {
+        String body = "[" + VALID + ","
+                + "{\"dataVencimento\": \"2025-01-10\", \"descricao\": \"Luz\", \"situacao\": \"PENDENTE\"},"
+                + "{\"dataVencimento\": \"2025-01-10\", \"valor\": 10.00, \"descricao\": \"Luz\", \"situacao\": \"ATRASADA\"},"
+                + "{\"dataVencimento\": \"2025-01-10\", \"valor\": 10.00, \"descricao\": \"" + "x".repeat(256) + "\", \"situacao\": \"PAGA\"},"
+                + "42,"
+                + VALID + "]";
+
+        AccountBulkCreateResultDTO result = create(body);
+
+        assertEquals(2, result.getCriadas());
+        assertEquals(4, result.getRejeitadas());
+        List<AccountBulkCreateItemDTO> items = result.getItens();
+        assertEquals(100L, items.get(0).getId());
+        assertEquals(Map.of("valor", "Valor é obrigatório"), items.get(1).getErros());
+        assertEquals(Map.of("situacao", "Status inválido: ATRASADA"), items.get(2).getErros());
+        assertEquals(Map.of("descricao", "Descrição com mais de 255 caracteres"), items.get(3).getErros());
+        assertEquals(Map.of("item", "Item deve ser um objeto JSON"), items.get(4).getErros());
+        assertNull(items.get(4).getId());
+        assertEquals(5, items.get(5).getIndice());
+        assertEquals(101L, items.get(5).getId());
+    }
+
+    @Test
+    void malformedJsonStopsReadingButKeepsPreviousItems() throws IOException {
+        AccountBulkCreateResultDTO result = create(VALID + "\n{\"dataVencimento\": ");
+
+        assertEquals(1, result.getCriadas());
+        assertEquals(1, result.getItens().size());
+        assertTrue(result.getErro().startsWith("JSON invalido depois do item 1"));
+        verify(accountBatchRepository).insertAll(anyList(), aryEq(new long[] {100L}));
+    }
+
+    @Test
+    void writeFailureKeepsCommittedChunksAndMarksTheRest() throws IOException {
+        doReturn(2).doThrow(new DataIntegrityViolationException("falha"))
+                .when(accountBatchRepository).insertAll(anyList(), any(long[].class));
+
+        AccountBulkCreateResultDTO result = create(VALID + "\n" + VALID + "\n" + VALID + "\n" + VALID + "\n" + VALID + "\n");
+
+        assertEquals(2, result.getCriadas());
+        assertEquals(3, result.getRejeitadas());
+        assertTrue(result.getErro().startsWith("Falha ao gravar o bloco que comeca no item 2"));
+        List<AccountBulkCreateItemDTO> items = result.getItens();
+        assertEquals(5, items.size());
+        assertEquals(100L, items.get(0).getId());
+        assertEquals(101L, items.get(1).getId());
+        assertEquals(Map.of("item", "Nao gravado: falha na gravacao do bloco"), items.get(2).getErros());
+        assertEquals(Map.of("item", "Nao gravado: falha na gravacao do bloco"), items.get(3).getErros());
+        assertEquals(Map.of("item", "Nao processado: criacao interrompida por falha de gravacao"), items.get(4).getErros());
+        verify(accountBatchRepository, times(2)).insertAll(anyList(), any(long[].class));
+    }
+
+    @Test
+    void stopsReadingAtTheItemLimit() throws IOException {
+        AccountBulkCreateResultDTO result = create("42\n".repeat(AccountBulkCreateService.MAX_BULK_CREATE_ITEMS + 1));
+
+        assertEquals(AccountBulkCreateService.MAX_BULK_CREATE_ITEMS, result.getItens().size());
+        assertEquals(AccountBulkCreateService.MAX_BULK_CREATE_ITEMS, result.getRejeitadas());
+        assertTrue(result.getErro().startsWith("Limite de " + AccountBulkCreateService.MAX_BULK_CREATE_ITEMS));
+    }
+
+    @Test
+    void emptyBodyCreatesNothing() throws IOException {
+        AccountBulkCreateResultDTO result = create("");
+
+        assertEquals(0, result.getCriadas());
+        assertTrue(result.getItens().isEmpty());
+        verifyNoInteractions(accountBatchRepository, accountIdAllocator);
+    }
+
+    private AccountBulkCreateResultDTO create(String body) throws IOException {
+        return accountBulkCreateService.create(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
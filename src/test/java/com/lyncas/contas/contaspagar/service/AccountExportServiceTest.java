@@ -0,0 +1,99 @@
+package com.lyncas.contas.contaspagar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.domain.enums.ExportFormatEnum;
+import com.lyncas.contas.contaspagar.domain.repository.AccountExportRepository;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+class AccountExportServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 1, 31);
+
+    @Mock
+    private AccountExportRepository accountExportRepository;
+
+    private AccountExportService accountExportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        var objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        accountExportService = new AccountExportService(accountExportRepository, objectMapper);
+    }
+
+    @Test
+    void exportsCsvThroughCopy() throws IOException {
+        when(accountExportRepository.copyOutCsv(eq(START), eq(END), any())).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            try {
+                out.write("data_vencimento,data_pagamento,valor,descricao,situacao\n2025-01-05,,10.00,Conta de luz,PENDENTE\n"
+                        .getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return 1L;
+        });
+        var out = new ByteArrayOutputStream();
+
+        long rows = accountExportService.export(START, END, ExportFormatEnum.CSV, out);
+
+        assertEquals(1, rows);
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("2025-01-05,,10.00,Conta de luz,PENDENTE\n"));
+        verify(accountExportRepository, never()).forEachByDataVencimento(any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportsOneJsonObjectPerLine() throws IOException {
+        when(accountExportRepository.forEachByDataVencimento(eq(START), eq(END), any())).thenAnswer(invocation -> {
+            Consumer<AccountDTO> consumer = invocation.getArgument(2);
+            consumer.accept(account(1L, "Conta de luz"));
+            consumer.accept(account(2L, "Aluguel \"sala 2\""));
+            return 2L;
+        });
+        var out = new ByteArrayOutputStream();
+
+        long rows = accountExportService.export(START, END, ExportFormatEnum.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,\"dataVencimento\":\"2025-01-05\""));
+        assertTrue(lines[1].contains("\"descricao\":\"Aluguel \\\"sala 2\\\"\""));
+    }
+
+    @Test
+    void rejectsPeriodEndingBeforeItStarts() {
+        assertThrows(IllegalArgumentException.class,
+                () -> accountExportService.export(END, START, ExportFormatEnum.CSV, new ByteArrayOutputStream()));
+        verifyNoInteractions(accountExportRepository);
+    }
+
+    private static AccountDTO account(Long id, String descricao) {
+        return new AccountDTO(id, LocalDate.of(2025, 1, 5), null, new BigDecimal("10.00"), descricao,
+                AccountStatusEnum.PENDENTE, LocalDateTime.of(2025, 1, 2, 8, 30), null);
+    }
+}
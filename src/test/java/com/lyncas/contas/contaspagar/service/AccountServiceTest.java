@@ -4,28 +4,64 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.domain.enums.ImportCheckpointTypeEnum;
+import com.lyncas.contas.contaspagar.domain.enums.ImportEngineEnum;
 import com.lyncas.contas.contaspagar.domain.model.Account;
+import com.lyncas.contas.contaspagar.domain.model.ImportManifest;
+import com.lyncas.contas.contaspagar.domain.repository.AccountBatchRepository;
+import com.lyncas.contas.contaspagar.domain.repository.AccountBulkRepository;
+import com.lyncas.contas.contaspagar.domain.repository.AccountCopyRepository;
+import com.lyncas.contas.contaspagar.domain.repository.AccountIdAllocator;
 import com.lyncas.contas.contaspagar.domain.repository.AccountRepository;
+import com.lyncas.contas.contaspagar.domain.repository.AccountStagingRepository;
+import com.lyncas.contas.contaspagar.exception.AccountCsvParseException;
 import com.lyncas.contas.contaspagar.exception.AccountNotFoundException;
+import com.lyncas.contas.contaspagar.exception.ImportAccountException;
+import com.lyncas.contas.contaspagar.infrastructure.config.AccountCacheProperties;
+import com.lyncas.contas.contaspagar.infrastructure.config.ImportProperties;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountBulkStatusDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountBulkStatusResultDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountCursorPageDTO;
 import com.lyncas.contas.contaspagar.resource.dto.v1.AccountDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountLookupDTO;
+import com.lyncas.contas.contaspagar.resource.dto.v1.AccountLookupResultDTO;
 import com.lyncas.contas.contaspagar.resource.dto.v1.AlterStatusDTO;
 import com.lyncas.contas.contaspagar.resource.mapper.v1.AccountMapper;
+import com.lyncas.contas.contaspagar.service.cache.AccountReadCache;
+import com.lyncas.contas.contaspagar.service.dedup.AccountDedupFilter;
+import com.lyncas.contas.contaspagar.service.dedup.BloomFilter;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
 
 class AccountServiceTest {
 
@@ -33,10 +69,33 @@ class AccountServiceTest {
     private AccountRepository accountRepository;
 
     @Mock
-    private TaskExecutor taskExecutor;
+    private AccountBatchRepository accountBatchRepository;
+
+    @Mock
+    private AccountCopyRepository accountCopyRepository;
+
+    @Mock
+    private AccountStagingRepository accountStagingRepository;
+
+    @Mock
+    private AccountBulkRepository accountBulkRepository;
+
+    @Mock
+    private AccountIdAllocator accountIdAllocator;
+
+    @Mock
+    private ImportCheckpointService importCheckpointService;
+
+    @Mock
+    private AccountDedupService accountDedupService;
+
+    @TempDir
+    Path tempDir;
 
     private AccountMapper accountMapper;
+    private ImportProperties importProperties;
     private AccountService accountService;
+    private ExecutorService executorService;
 
     private Account account;
 
@@ -44,7 +103,15 @@ class AccountServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         accountMapper = new AccountMapper();
-        accountService = new AccountService(accountRepository, accountMapper, taskExecutor);
+        importProperties = new ImportProperties();
+        importProperties.getPipeline().setParseWorkers(2);
+        importProperties.getAdaptive().setMaxConcurrentChunks(2);
+        executorService = Executors.newCachedThreadPool();
+        TaskExecutor taskExecutor = executorService::execute;
+        accountService = new AccountService(accountRepository, accountBatchRepository, accountCopyRepository,
+                accountStagingRepository, accountBulkRepository, accountIdAllocator, accountMapper,
+                new AccountReadCache(new AccountCacheProperties()), importCheckpointService, accountDedupService,
+                new ImportThrottle(importProperties.getAdaptive(), () -> 0, 50), importProperties, taskExecutor, taskExecutor);
 
         account = new Account();
         account.setSituacao(AccountStatusEnum.PENDENTE);
@@ -53,6 +120,11 @@ class AccountServiceTest {
         account.setDataVencimento(LocalDate.of(2025, 9, 1));
     }
 
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
     @Test
     void createAccountSuccessfully() {
         AccountDTO accountDTO = new AccountDTO();
@@ -129,15 +201,15 @@ class AccountServiceTest {
         String descricao = "Servico";
         Pageable pageable = PageRequest.of(0, 10);
 
-        Account account = new Account();
+        AccountDTO account = new AccountDTO();
         account.setDataVencimento(LocalDate.now().plusDays(3));
         account.setDataPagamento(LocalDate.now().minusDays(1));
         account.setValor(BigDecimal.TEN);
         account.setDescricao("Conta de luz");
         account.setSituacao(AccountStatusEnum.PENDENTE);
 
-        Page<Account> accounts = new PageImpl<>(Collections.singletonList(account));
-        when(accountRepository.findByDataVencimentoBetweenAndDescricaoContainingIgnoreCase(startDate, endDate, descricao, pageable)).thenReturn(accounts);
+        Page<AccountDTO> accounts = new PageImpl<>(Collections.singletonList(account));
+        when(accountRepository.searchByDataVencimentoAndDescricao(startDate, endDate, "%Servico%", pageable)).thenReturn(accounts);
         //when(accountMapper.toDTO(any(Account.class))).thenReturn(new AccountDTO());
 
         Page<AccountDTO> result = accountService.listByDataVencimentoAndDescricao(startDate, endDate, descricao, pageable);
@@ -145,26 +217,214 @@ class AccountServiceTest {
         assertEquals(1, result.getTotalElements());
     }
 
+    @Test
+    void listByDataVencimentoAndDescricaoOrderedByRelevanceIgnoresRequestedSort() {
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = LocalDate.now().plusDays(1);
+        Pageable pageable = PageRequest.of(2, 10, Sort.by("valor"));
+        when(accountRepository.searchByDataVencimentoAndDescricaoOrderByRelevance(startDate, endDate, "luz", "%luz%", PageRequest.of(2, 10)))
+                .thenReturn(new PageImpl<>(Collections.singletonList(accountWithId(1L, startDate))));
+
+        Page<AccountDTO> result = accountService.listByDataVencimentoAndDescricao(startDate, endDate, "luz", true, pageable);
+
+        assertEquals(1, result.getContent().size());
+        verify(accountRepository, never()).searchByDataVencimentoAndDescricao(any(), any(), any(), any());
+    }
+
+    @Test
+    void listByDataVencimentoAndDescricaoWithoutTermSkipsRelevance() {
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = LocalDate.now().plusDays(1);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("valor"));
+        when(accountRepository.searchByDataVencimentoAndDescricao(startDate, endDate, "%%", pageable))
+                .thenReturn(new PageImpl<>(Collections.singletonList(accountWithId(1L, startDate))));
+
+        Page<AccountDTO> result = accountService.listByDataVencimentoAndDescricao(startDate, endDate, "", true, pageable);
+
+        assertEquals(1, result.getContent().size());
+        verify(accountRepository, never()).searchByDataVencimentoAndDescricaoOrderByRelevance(any(), any(), any(), any(), any());
+    }
+
     @Test
     void getAccountByIdSuccessfully() {
         Long id = 1L;
-        //Account account = new Account();
-        when(accountRepository.findById(id)).thenReturn(Optional.of(account));
-        //when(accountMapper.toDTO(account)).thenReturn(new AccountDTO());
+        when(accountRepository.findDTOById(id)).thenReturn(Optional.of(accountWithId(id, LocalDate.now())));
 
         AccountDTO result = accountService.getAccountById(id);
 
         assertNotNull(result);
+        verify(accountRepository, never()).findById(any());
+    }
+
+    @Test
+    void getAccountByIdIsServedFromNearCacheUntilStatusChanges() {
+        Long id = 1L;
+        when(accountRepository.findDTOById(id)).thenReturn(Optional.of(accountWithId(id, LocalDate.now())));
+        when(accountRepository.findById(id)).thenReturn(Optional.of(account));
+        AlterStatusDTO alterStatusDTO = new AlterStatusDTO();
+        alterStatusDTO.setSituacao(AccountStatusEnum.PAGA);
+
+        accountService.getAccountById(id);
+        accountService.getAccountById(id);
+        verify(accountRepository, times(1)).findDTOById(id);
+
+        accountService.changeStatus(id, alterStatusDTO);
+        accountService.getAccountById(id);
+        verify(accountRepository, times(2)).findDTOById(id);
     }
 
     @Test
     void getAccountByIdNotFound() {
         Long id = 1L;
-        when(accountRepository.findById(id)).thenReturn(Optional.empty());
+        when(accountRepository.findDTOById(id)).thenReturn(Optional.empty());
 
         assertThrows(AccountNotFoundException.class, () -> accountService.getAccountById(id));
     }
 
+    @Test
+    void lookupQueriesDistinctIdsOnceAndReportsMissingInRequestOrder() {
+        when(accountBulkRepository.findAllByIds(any())).thenReturn(List.of(
+                accountWithId(2L, LocalDate.now()), accountWithId(7L, LocalDate.now())));
+
+        AccountLookupResultDTO result = accountService.lookup(List.of(9L, 7L, 2L, 7L, 4L));
+
+        verify(accountBulkRepository).findAllByIds(new Long[] {9L, 7L, 2L, 4L});
+        assertEquals(List.of(2L, 7L), result.getContas().stream().map(AccountDTO::getId).toList());
+        assertEquals(List.of(9L, 4L), result.getNaoEncontrados());
+    }
+
+    @Test
+    void lookupRejectsEmptyAndOversizedRequests() {
+        List<Long> tooMany = LongStream.rangeClosed(1, AccountLookupDTO.MAX_IDS + 1).boxed().toList();
+        List<Long> tooManyRepeated = Collections.nCopies(AccountLookupDTO.MAX_IDS + 1, 7L);
+
+        assertThrows(IllegalArgumentException.class, () -> accountService.lookup(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> accountService.lookup(tooMany));
+        assertThrows(IllegalArgumentException.class, () -> accountService.lookup(tooManyRepeated));
+        verifyNoInteractions(accountBulkRepository);
+    }
+
+    @Test
+    void changeStatusInBulkUpdatesSortedIdsInChunks() {
+        List<Long> ids = LongStream.rangeClosed(1, AccountBulkRepository.UPDATE_CHUNK_SIZE + 1).boxed()
+                .sorted(Collections.reverseOrder()).toList();
+        when(accountBulkRepository.updateStatusByIds(any(), eq(AccountStatusEnum.PAGA), isNull()))
+                .thenAnswer(invocation -> statusChanges(invocation.getArgument(0)));
+        AccountBulkStatusDTO request = new AccountBulkStatusDTO();
+        request.setSituacao(AccountStatusEnum.PAGA);
+        request.setIds(ids);
+
+        AccountBulkStatusResultDTO result = accountService.changeStatusInBulk(request);
+
+        assertEquals(AccountBulkRepository.UPDATE_CHUNK_SIZE + 1, result.getAtualizadas());
+        assertEquals(2, result.getComandos());
+        verify(accountBulkRepository).updateStatusByIds(
+                argThat(chunk -> chunk.length == AccountBulkRepository.UPDATE_CHUNK_SIZE && chunk[0] == 1L),
+                eq(AccountStatusEnum.PAGA), isNull());
+        verify(accountBulkRepository).updateStatusByIds(
+                argThat(chunk -> chunk.length == 1 && chunk[0] == AccountBulkRepository.UPDATE_CHUNK_SIZE + 1L),
+                eq(AccountStatusEnum.PAGA), isNull());
+        verify(accountRepository, never()).save(any());
+    }
+
+    @Test
+    void changeStatusInBulkByFilterAdvancesUntilNothingChanges() {
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 1, 31);
+        when(accountBulkRepository.updateStatusByFilter(eq(startDate), eq(endDate), eq(AccountStatusEnum.PENDENTE),
+                anyLong(), eq(AccountBulkRepository.UPDATE_CHUNK_SIZE), eq(AccountStatusEnum.CANCELADA), isNull()))
+                .thenReturn(statusChanges(new Long[] {3L, 8L}), statusChanges(new Long[] {12L}), List.of());
+        AccountBulkStatusDTO request = new AccountBulkStatusDTO();
+        request.setSituacao(AccountStatusEnum.CANCELADA);
+        request.setStartDate(startDate);
+        request.setEndDate(endDate);
+        request.setSituacaoAtual(AccountStatusEnum.PENDENTE);
+
+        AccountBulkStatusResultDTO result = accountService.changeStatusInBulk(request);
+
+        assertEquals(3, result.getAtualizadas());
+        assertEquals(3, result.getComandos());
+        verify(accountBulkRepository).updateStatusByFilter(startDate, endDate, AccountStatusEnum.PENDENTE, 0L,
+                AccountBulkRepository.UPDATE_CHUNK_SIZE, AccountStatusEnum.CANCELADA, null);
+        verify(accountBulkRepository).updateStatusByFilter(startDate, endDate, AccountStatusEnum.PENDENTE, 8L,
+                AccountBulkRepository.UPDATE_CHUNK_SIZE, AccountStatusEnum.CANCELADA, null);
+        verify(accountBulkRepository).updateStatusByFilter(startDate, endDate, AccountStatusEnum.PENDENTE, 12L,
+                AccountBulkRepository.UPDATE_CHUNK_SIZE, AccountStatusEnum.CANCELADA, null);
+    }
+
+    @Test
+    void changeStatusInBulkByFilterResumesWhenEmptyChunkLeavesAccountsBehind() {
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 1, 31);
+        when(accountBulkRepository.updateStatusByFilter(eq(startDate), eq(endDate), eq(AccountStatusEnum.PENDENTE),
+                anyLong(), eq(AccountBulkRepository.UPDATE_CHUNK_SIZE), eq(AccountStatusEnum.CANCELADA), isNull()))
+                .thenReturn(List.of(), statusChanges(new Long[] {40L}), List.of());
+        when(accountBulkRepository.findFirstIdByFilter(startDate, endDate, AccountStatusEnum.PENDENTE))
+                .thenReturn(Optional.of(40L), Optional.empty());
+        AccountBulkStatusDTO request = new AccountBulkStatusDTO();
+        request.setSituacao(AccountStatusEnum.CANCELADA);
+        request.setStartDate(startDate);
+        request.setEndDate(endDate);
+        request.setSituacaoAtual(AccountStatusEnum.PENDENTE);
+
+        AccountBulkStatusResultDTO result = accountService.changeStatusInBulk(request);
+
+        assertEquals(1, result.getAtualizadas());
+        assertEquals(3, result.getComandos());
+        verify(accountBulkRepository).updateStatusByFilter(startDate, endDate, AccountStatusEnum.PENDENTE, 39L,
+                AccountBulkRepository.UPDATE_CHUNK_SIZE, AccountStatusEnum.CANCELADA, null);
+        verify(accountBulkRepository, times(2)).findFirstIdByFilter(startDate, endDate, AccountStatusEnum.PENDENTE);
+    }
+
+    @Test
+    void changeStatusInBulkEvictsChangedAccountsAndTheirPeriods() {
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 1, 31);
+        when(accountRepository.findDTOById(1L)).thenReturn(Optional.of(accountWithId(1L, startDate)));
+        when(accountRepository.sumValorByDataPagamento(startDate, endDate)).thenReturn(BigDecimal.ZERO, BigDecimal.TEN);
+        when(accountBulkRepository.updateStatusByIds(any(), any(), any())).thenReturn(List.of(
+                new AccountBulkRepository.StatusChange(1L, startDate, null, LocalDate.of(2025, 1, 10))));
+        accountService.getAccountById(1L);
+        accountService.getTotalPaid(startDate, endDate);
+        AccountBulkStatusDTO request = new AccountBulkStatusDTO();
+        request.setSituacao(AccountStatusEnum.PAGA);
+        request.setDataPagamento(LocalDate.of(2025, 1, 10));
+        request.setIds(List.of(1L));
+
+        accountService.changeStatusInBulk(request);
+
+        accountService.getAccountById(1L);
+        assertEquals(BigDecimal.TEN, accountService.getTotalPaid(startDate, endDate));
+        verify(accountRepository, times(2)).findDTOById(1L);
+    }
+
+    @Test
+    void changeStatusInBulkRejectsInvalidRequests() {
+        AccountBulkStatusDTO neither = new AccountBulkStatusDTO();
+        neither.setSituacao(AccountStatusEnum.PAGA);
+        AccountBulkStatusDTO both = new AccountBulkStatusDTO();
+        both.setSituacao(AccountStatusEnum.PAGA);
+        both.setIds(List.of(1L));
+        both.setSituacaoAtual(AccountStatusEnum.PENDENTE);
+        AccountBulkStatusDTO paymentDateWhenNotPaid = new AccountBulkStatusDTO();
+        paymentDateWhenNotPaid.setSituacao(AccountStatusEnum.CANCELADA);
+        paymentDateWhenNotPaid.setDataPagamento(LocalDate.of(2025, 1, 10));
+        paymentDateWhenNotPaid.setIds(List.of(1L));
+        AccountBulkStatusDTO sameStatus = new AccountBulkStatusDTO();
+        sameStatus.setSituacao(AccountStatusEnum.PENDENTE);
+        sameStatus.setStartDate(LocalDate.of(2025, 1, 1));
+        sameStatus.setEndDate(LocalDate.of(2025, 1, 31));
+        sameStatus.setSituacaoAtual(AccountStatusEnum.PENDENTE);
+        AccountBulkStatusDTO tooManyRepeated = new AccountBulkStatusDTO();
+        tooManyRepeated.setSituacao(AccountStatusEnum.PAGA);
+        tooManyRepeated.setIds(Collections.nCopies(AccountBulkStatusDTO.MAX_IDS + 1, 1L));
+
+        for (AccountBulkStatusDTO request : List.of(neither, both, paymentDateWhenNotPaid, sameStatus, tooManyRepeated)) {
+            assertThrows(IllegalArgumentException.class, () -> accountService.changeStatusInBulk(request));
+        }
+        verifyNoInteractions(accountBulkRepository);
+    }
+
     @Test
     void getTotalPaidSuccessfully() {
         LocalDate startDate = LocalDate.now();
@@ -177,19 +437,102 @@ class AccountServiceTest {
         assertEquals(totalPaid, result);
     }
 
+    @Test
+    void getTotalPaidIsCachedUntilAnAccountOfThePeriodChanges() {
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 1, 31);
+        when(accountRepository.sumValorByDataPagamento(startDate, endDate)).thenReturn(BigDecimal.TEN, BigDecimal.ONE);
+        when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        AccountDTO paidInMarch = new AccountDTO.Builder()
+                .dataVencimento(LocalDate.of(2025, 3, 10))
+                .dataPagamento(LocalDate.of(2025, 3, 10))
+                .valor(BigDecimal.ONE)
+                .descricao("Agua")
+                .situacao(AccountStatusEnum.PAGA)
+                .build();
+        AccountDTO paidInJanuary = new AccountDTO.Builder()
+                .dataVencimento(LocalDate.of(2025, 1, 10))
+                .dataPagamento(LocalDate.of(2025, 1, 10))
+                .valor(BigDecimal.ONE)
+                .descricao("Agua")
+                .situacao(AccountStatusEnum.PAGA)
+                .build();
+
+        assertEquals(BigDecimal.TEN, accountService.getTotalPaid(startDate, endDate));
+        accountService.create(paidInMarch);
+        assertEquals(BigDecimal.TEN, accountService.getTotalPaid(startDate, endDate));
+        accountService.create(paidInJanuary);
+        assertEquals(BigDecimal.ONE, accountService.getTotalPaid(startDate, endDate));
+
+        verify(accountRepository, times(2)).sumValorByDataPagamento(startDate, endDate);
+    }
+
+    @Test
+    void listByCursorReturnsNextCursorWhenThereAreMoreAccounts() {
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 12, 31);
+        when(accountRepository.findPageAfter(startDate, endDate, "%100\\%%", startDate, 0L, Limit.of(3))).thenReturn(List.of(
+                accountWithId(10L, LocalDate.of(2025, 1, 5)),
+                accountWithId(7L, LocalDate.of(2025, 1, 6)),
+                accountWithId(3L, LocalDate.of(2025, 1, 6))));
+
+        AccountCursorPageDTO page = accountService.listByDataVencimentoAndDescricaoAfter(startDate, endDate, "100%", null, 2);
+
+        assertEquals(2, page.getContent().size());
+        assertEquals(new AccountCursor(LocalDate.of(2025, 1, 6), 7L), AccountCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void listByCursorContinuesAfterCursorAndEndsWithoutNextCursor() {
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 12, 31);
+        String cursor = new AccountCursor(LocalDate.of(2025, 1, 6), 7L).encode();
+        when(accountRepository.findPageAfter(startDate, endDate, "%%", LocalDate.of(2025, 1, 6), 7L, Limit.of(3)))
+                .thenReturn(List.of(accountWithId(3L, LocalDate.of(2025, 1, 6))));
+
+        AccountCursorPageDTO page = accountService.listByDataVencimentoAndDescricaoAfter(startDate, endDate, "", cursor, 2);
+
+        assertEquals(1, page.getContent().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void listByCursorRejectsInvalidCursorAndSize() {
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 12, 31);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> accountService.listByDataVencimentoAndDescricaoAfter(startDate, endDate, "", "nao-e-cursor", 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> accountService.listByDataVencimentoAndDescricaoAfter(startDate, endDate, "", null, 0));
+        verifyNoInteractions(accountRepository);
+    }
+
+    private static List<AccountBulkRepository.StatusChange> statusChanges(Long[] ids) {
+        return Arrays.stream(ids)
+                .map(id -> new AccountBulkRepository.StatusChange(id, LocalDate.of(2025, 1, 1), null, LocalDate.of(2025, 1, 1)))
+                .toList();
+    }
+
+    private static AccountDTO accountWithId(Long id, LocalDate dataVencimento) {
+        return new AccountDTO.Builder()
+                .id(id)
+                .dataVencimento(dataVencimento)
+                .valor(BigDecimal.TEN)
+                .descricao("Conta de luz")
+                .situacao(AccountStatusEnum.PENDENTE)
+                .build();
+    }
+
     @Test
     void importAccountsSuccessfully() {
         String csvData = "dataVencimento,dataPagamento,valor,descricao,situacao\n2023-01-01,2023-01-02,100.00,Servico,PAGA";
         InputStream inputStream = new ByteArrayInputStream(csvData.getBytes());
-        doAnswer(invocation -> {
-            Runnable task = invocation.getArgument(0);
-            task.run();
-            return null;
-        }).when(taskExecutor).execute(any(Runnable.class));
 
         accountService.importAccounts(inputStream);
 
-        verify(accountRepository).saveAllAndFlush(anyList());
+        verify(accountBatchRepository).insertAll(anyList());
+        verify(accountRepository, never()).saveAllAndFlush(anyList());
     }
 
     @Test
@@ -197,4 +540,126 @@ class AccountServiceTest {
         InputStream inputStream = new ByteArrayInputStream("dados invalidos".getBytes());
         assertDoesNotThrow( () -> accountService.importAccounts(inputStream));
     }
+
+    @Test
+    void importAccountsWithCopyEngineEncodesRows() {
+        String csvData = "dataVencimento,dataPagamento,valor,descricao,situacao\n2023-01-01,,100.00,Servico \"A\",PAGA";
+        InputStream inputStream = new ByteArrayInputStream(csvData.getBytes());
+        when(accountIdAllocator.reserve(1)).thenReturn(new long[]{51L});
+
+        accountService.importAccounts(inputStream, ImportEngineEnum.COPY);
+
+        verify(accountCopyRepository).copyIn(argThat(rows ->
+                rows.toString().startsWith("51,2023-01-01,,100.00,\"Servico \"\"A\"\"\",PAGA,")));
+        verify(accountBatchRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void importAccountsWithCopyEngineRejectsInvalidSituacao() {
+        String csvData = "dataVencimento,dataPagamento,valor,descricao,situacao\n2023-01-01,,100.00,Servico,ATRASADA";
+        InputStream inputStream = new ByteArrayInputStream(csvData.getBytes());
+        when(accountIdAllocator.reserve(1)).thenReturn(new long[]{51L});
+
+        assertThrows(ImportAccountException.class, () -> accountService.importAccounts(inputStream, ImportEngineEnum.COPY));
+        verify(accountCopyRepository, never()).copyIn(any());
+    }
+
+    @Test
+    void processImportSkipsChunksAlreadyCommitted() {
+        String csvData = "dataVencimento,dataPagamento,valor,descricao,situacao\n"
+                + "2023-01-01,,100.00,Servico,PAGA\n"
+                + "2023-01-02,,200.00,Aluguel,PENDENTE";
+        InputStream inputStream = new ByteArrayInputStream(csvData.getBytes());
+        ImportManifest manifest = new ImportManifest("hash", "contas.csv", ImportCheckpointTypeEnum.LINHAS, 1);
+        when(importCheckpointService.begin(eq("hash"), eq("contas.csv"), eq(ImportCheckpointTypeEnum.LINHAS), anyInt()))
+                .thenReturn(manifest);
+        when(importCheckpointService.committedLines(manifest)).thenReturn(new TreeMap<>(Map.of(1L, 1)));
+        when(importCheckpointService.nextChunkIndex(manifest)).thenReturn(1);
+        doAnswer(invocation -> {
+            Runnable write = invocation.getArgument(2);
+            write.run();
+            return null;
+        }).when(importCheckpointService).commitChunk(eq(manifest), any(), any());
+
+        ImportJob job = new ImportJob("contas.csv", ImportEngineEnum.JPA, "hash");
+        accountService.processImport(inputStream, job);
+
+        verify(importCheckpointService).commitChunk(eq(manifest), argThat(chunk -> chunk.index() == 1 && chunk.firstLine() == 2), any());
+        verify(accountBatchRepository).insertAll(argThat((List<Account> accounts) ->
+                accounts.size() == 1 && accounts.get(0).getDescricao().equals("Aluguel")));
+        assertEquals(1, job.getRowsSkipped());
+        assertEquals(1, job.getRowsPersisted());
+    }
+
+    @Test
+    void processServerFileParsesRangesInParallel() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("contas.csv"),
+                "data_vencimento,data_pagamento,valor,descricao,situacao\n"
+                        + "2025-01-09,,206.93,Parcela,CANCELADA\n"
+                        + "2025-01-15,,811.43,Serviço,PENDENTE\n"
+                        + "2025-01-20,2025-01-19,10.00,\"Aluguel, sala 2\",PAGA\n");
+        importProperties.setServerFileRangeBytes(16);
+
+        ImportJob job = new ImportJob("contas.csv", ImportEngineEnum.JPA);
+        accountService.processServerFile(file, job);
+
+        verify(accountBatchRepository, times(3)).insertAll(argThat((List<Account> accounts) -> accounts.size() == 1));
+        verify(accountBatchRepository).insertAll(argThat((List<Account> accounts) ->
+                accounts.get(0).getDescricao().equals("Aluguel, sala 2")));
+        assertEquals(3, job.getRowsPersisted());
+    }
+
+    @Test
+    void importAccountsSkipsDuplicatedRows() {
+        String csvData = "data_vencimento,data_pagamento,valor,descricao,situacao\n"
+                + "2023-01-01,2023-01-02,100.00,Servico,PAGA\n"
+                + "2023-01-02,,200.00,Aluguel,PENDENTE";
+        AccountDedupFilter dedupFilter = new AccountDedupFilter(new BloomFilter(100, 0.01), LocalDateTime.now());
+        when(accountDedupService.newFilter()).thenReturn(dedupFilter);
+        BitSet duplicates = new BitSet();
+        duplicates.set(0);
+        when(accountDedupService.findDuplicates(any(), eq(dedupFilter))).thenReturn(duplicates);
+
+        ImportJob job = new ImportJob("contas.csv", ImportEngineEnum.JPA, null, true);
+        accountService.processImport(new ByteArrayInputStream(csvData.getBytes()), job);
+
+        verify(accountBatchRepository).insertAll(argThat((List<Account> accounts) ->
+                accounts.size() == 1 && accounts.get(0).getDescricao().equals("Aluguel")));
+        assertEquals(1, job.getRowsDuplicated());
+        assertEquals(1, job.getRowsPersisted());
+    }
+
+    @Test
+    void importAccountsWithStagingEngineMergesOnceAtEnd() {
+        String csvData = "data_vencimento,data_pagamento,valor,descricao,situacao\n"
+                + "2023-01-01,2023-01-02,100.00,Servico,PAGA\n"
+                + "2023-01-02,,200.00,\"Aluguel, sala 2\",PENDENTE";
+        when(accountStagingRepository.createTable()).thenReturn("importacao_staging_teste");
+        when(accountStagingRepository.merge("importacao_staging_teste", 2L, null)).thenReturn(2L);
+
+        ImportJob job = new ImportJob("contas.csv", ImportEngineEnum.STAGING);
+        accountService.processImport(new ByteArrayInputStream(csvData.getBytes()), job);
+
+        verify(accountStagingRepository).copyIn(eq("importacao_staging_teste"), argThat(rows -> rows.toString().equals(
+                "1,2023-01-01,2023-01-02,100.00,Servico,PAGA\n2,2023-01-02,,200.00,\"Aluguel, sala 2\",PENDENTE\n")));
+        verify(accountStagingRepository).dropTable("importacao_staging_teste");
+        verify(accountBatchRepository, never()).insertAll(anyList());
+        assertEquals(2, job.getRowsPersisted());
+    }
+
+    @Test
+    void importAccountsWithStagingEngineDropsTableWhenValidationFails() {
+        String csvData = "data_vencimento,data_pagamento,valor,descricao,situacao\n2023-01-01,,100.00,Servico,ATRASADA";
+        when(accountStagingRepository.createTable()).thenReturn("importacao_staging_teste");
+        when(accountStagingRepository.merge(eq("importacao_staging_teste"), eq(1L), any()))
+                .thenThrow(new AccountCsvParseException("Linha 1: Status inválido: ATRASADA"));
+
+        ImportJob job = new ImportJob("contas.csv", ImportEngineEnum.STAGING);
+        var exception = assertThrows(ImportAccountException.class,
+                () -> accountService.processImport(new ByteArrayInputStream(csvData.getBytes()), job));
+
+        assertTrue(exception.getMessage().contains("Linha 1: Status inválido: ATRASADA"));
+        verify(accountStagingRepository).dropTable("importacao_staging_teste");
+        assertEquals(0, job.getRowsPersisted());
+    }
 }
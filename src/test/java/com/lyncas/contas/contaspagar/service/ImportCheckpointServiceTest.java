@@ -0,0 +1,81 @@
+package com.lyncas.contas.contaspagar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.lyncas.contas.contaspagar.domain.enums.ImportCheckpointTypeEnum;
+import com.lyncas.contas.contaspagar.domain.model.ImportManifest;
+import com.lyncas.contas.contaspagar.domain.repository.ImportManifestRepository;
+import com.lyncas.contas.contaspagar.exception.ImportAccountException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+class ImportCheckpointServiceTest {
+
+    @Mock
+    private ImportManifestRepository importManifestRepository;
+
+    private ImportCheckpointService importCheckpointService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        importCheckpointService = new ImportCheckpointService(importManifestRepository);
+        when(importManifestRepository.save(any(ImportManifest.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void beginCreatesManifestWithCheckpointType() {
+        when(importManifestRepository.findByFileHash("hash")).thenReturn(Optional.empty());
+
+        ImportManifest manifest = importCheckpointService.begin("hash", "contas.csv", ImportCheckpointTypeEnum.FAIXAS_BYTES, 4096);
+
+        assertEquals(ImportCheckpointTypeEnum.FAIXAS_BYTES, manifest.getCheckpointType());
+        assertEquals(4096, manifest.getChunkSize());
+    }
+
+    @Test
+    void beginResumesManifestOfSameType() {
+        ImportManifest existing = existing(ImportCheckpointTypeEnum.FAIXAS_BYTES, 4096);
+        when(importManifestRepository.findByFileHash("hash")).thenReturn(Optional.of(existing));
+
+        ImportManifest manifest = importCheckpointService.begin("hash", "contas.csv", ImportCheckpointTypeEnum.FAIXAS_BYTES, 8192);
+
+        assertEquals(4096, manifest.getChunkSize());
+    }
+
+    @Test
+    void beginRefusesResumeWithOtherCheckpointType() {
+        ImportManifest existing = existing(ImportCheckpointTypeEnum.LINHAS, 5000);
+        when(importManifestRepository.findByFileHash("hash")).thenReturn(Optional.of(existing));
+        when(importManifestRepository.findCommittedChunkIndexes(1L)).thenReturn(List.of(0, 1));
+
+        assertThrows(ImportAccountException.class,
+                () -> importCheckpointService.begin("hash", "contas.csv", ImportCheckpointTypeEnum.FAIXAS_BYTES, 4096));
+        verify(importManifestRepository, never()).save(any());
+    }
+
+    @Test
+    void beginRestartsManifestOfOtherTypeWithoutCommittedChunks() {
+        ImportManifest existing = existing(ImportCheckpointTypeEnum.LINHAS, 5000);
+        when(importManifestRepository.findByFileHash("hash")).thenReturn(Optional.of(existing));
+        when(importManifestRepository.findCommittedChunkIndexes(1L)).thenReturn(List.of());
+
+        ImportManifest manifest = importCheckpointService.begin("hash", "contas.csv", ImportCheckpointTypeEnum.FAIXAS_BYTES, 4096);
+
+        assertEquals(ImportCheckpointTypeEnum.FAIXAS_BYTES, manifest.getCheckpointType());
+        assertEquals(4096, manifest.getChunkSize());
+    }
+
+    private static ImportManifest existing(ImportCheckpointTypeEnum checkpointType, int chunkSize) {
+        ImportManifest manifest = new ImportManifest("hash", "contas.csv", checkpointType, chunkSize);
+        ReflectionTestUtils.setField(manifest, "id", 1L);
+        return manifest;
+    }
+}
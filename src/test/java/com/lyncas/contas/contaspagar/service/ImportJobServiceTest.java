@@ -0,0 +1,189 @@
+package com.lyncas.contas.contaspagar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.lyncas.contas.contaspagar.domain.enums.ImportEngineEnum;
+import com.lyncas.contas.contaspagar.domain.enums.ImportJobStatusEnum;
+import com.lyncas.contas.contaspagar.exception.ImportAccountException;
+import com.lyncas.contas.contaspagar.exception.ImportJobNotFoundException;
+import com.lyncas.contas.contaspagar.infrastructure.config.ImportProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.TaskExecutor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+class ImportJobServiceTest {
+
+    @Mock
+    private AccountService accountService;
+
+    @TempDir
+    Path serverDirectory;
+
+    private ImportJobService importJobService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        TaskExecutor synchronousExecutor = Runnable::run;
+        ImportProperties importProperties = new ImportProperties();
+        importProperties.setServerDirectory(serverDirectory.toString());
+        importJobService = new ImportJobService(accountService, importProperties, synchronousExecutor, synchronousExecutor);
+    }
+
+    @Test
+    void submitRunsImportAndCompletesJob() throws IOException {
+        ImportJob job = importJobService.submit(new ByteArrayInputStream("cabecalho\n".getBytes()), "contas.csv", ImportOptions.defaults());
+
+        assertEquals(ImportJobStatusEnum.CONCLUIDA, job.getStatus());
+        assertEquals(ImportEngineEnum.JPA, job.getEngine());
+        assertEquals(64, job.getFileHash().length());
+        assertFalse(job.isDedup());
+        verify(accountService).processImport(any(), eq(job));
+        assertSame(job, importJobService.getJob(job.getId()));
+    }
+
+    @Test
+    void submitMarksJobAsFailedWhenImportThrows() throws IOException {
+        doThrow(new ImportAccountException("falha no chunk", null)).when(accountService).processImport(any(), any());
+
+        ImportJob job = importJobService.submit(new ByteArrayInputStream("cabecalho\n".getBytes()), "contas.csv", new ImportOptions(ImportEngineEnum.COPY, null));
+
+        assertEquals(ImportJobStatusEnum.FALHOU, job.getStatus());
+        assertEquals("falha no chunk", job.getFailure());
+    }
+
+    @Test
+    void submitImportsEachZipEntryWithItsOwnManifest() throws IOException {
+        ImportJob job = importJobService.submit(new ByteArrayInputStream(zip("janeiro.csv", "fevereiro.csv")), "contas.zip", ImportOptions.defaults());
+
+        assertEquals(ImportJobStatusEnum.CONCLUIDA, job.getStatus());
+        var janeiroHash = ArgumentCaptor.forClass(String.class);
+        var fevereiroHash = ArgumentCaptor.forClass(String.class);
+        verify(accountService).processImport(any(), eq(job), janeiroHash.capture(), eq("janeiro.csv"));
+        verify(accountService).processImport(any(), eq(job), fevereiroHash.capture(), eq("fevereiro.csv"));
+        assertEquals(64, janeiroHash.getValue().length());
+        assertNotEquals(janeiroHash.getValue(), fevereiroHash.getValue());
+        assertNotEquals(job.getFileHash(), janeiroHash.getValue());
+    }
+
+    @Test
+    void submitServerFileDecompressesGzip() throws IOException {
+        Files.write(serverDirectory.resolve("contas.csv.gz"), gzip("cabecalho\n"));
+
+        ImportJob job = importJobService.submitServerFile("contas.csv.gz", ImportOptions.defaults());
+
+        assertEquals(ImportJobStatusEnum.CONCLUIDA, job.getStatus());
+        verify(accountService).processImport(isA(GZIPInputStream.class), eq(job));
+        verify(accountService, never()).processServerFile(any(), any());
+    }
+
+    @Test
+    void submitServerFileRunsImportFromDirectory() throws IOException {
+        Path file = Files.writeString(serverDirectory.resolve("contas.csv"), "cabecalho\n");
+
+        ImportJob job = importJobService.submitServerFile("contas.csv", new ImportOptions(ImportEngineEnum.COPY, true));
+
+        assertEquals(ImportJobStatusEnum.CONCLUIDA, job.getStatus());
+        verify(accountService).processServerFile(file.toRealPath(), job);
+        assertTrue(Files.exists(file));
+        assertTrue(job.isDedup());
+    }
+
+    @Test
+    void submitServerFileRejectsPathOutsideDirectory() {
+        assertThrows(IllegalArgumentException.class, () -> importJobService.submitServerFile("../contas.csv", ImportOptions.defaults()));
+        assertThrows(IllegalArgumentException.class, () -> importJobService.submitServerFile("inexistente.csv", ImportOptions.defaults()));
+        verifyNoInteractions(accountService);
+    }
+
+    @Test
+    void submitServerFileRejectsSymlinkPointingOutsideDirectory(@TempDir Path outside) throws IOException {
+        Path target = Files.writeString(outside.resolve("segredo.csv"), "cabecalho\n");
+        Files.createSymbolicLink(serverDirectory.resolve("contas.csv"), target);
+
+        assertThrows(IllegalArgumentException.class, () -> importJobService.submitServerFile("contas.csv", ImportOptions.defaults()));
+        verifyNoInteractions(accountService);
+    }
+
+    @Test
+    void importStreamProcessesInCallingThread() {
+        var content = new ByteArrayInputStream("cabecalho\n".getBytes());
+
+        ImportJob job = importJobService.importStream(content, "contas.csv", ImportOptions.defaults());
+
+        assertEquals(ImportJobStatusEnum.CONCLUIDA, job.getStatus());
+        assertNull(job.getFileHash());
+        verify(accountService).processImport(any(), eq(job));
+    }
+
+    @Test
+    void importStreamDecompressesGzip() {
+        ImportJob job = importJobService.importStream(new ByteArrayInputStream(gzip("cabecalho\n")), "contas.csv.gz", ImportOptions.defaults());
+
+        assertEquals(ImportJobStatusEnum.CONCLUIDA, job.getStatus());
+        verify(accountService).processImport(isA(GZIPInputStream.class), eq(job));
+    }
+
+    @Test
+    void importStreamImportsZipEntriesInSequence() {
+        ImportJob job = importJobService.importStream(new ByteArrayInputStream(zip("janeiro.csv", "fevereiro.csv")), "contas.zip", ImportOptions.defaults());
+
+        assertEquals(ImportJobStatusEnum.CONCLUIDA, job.getStatus());
+        verify(accountService).processImport(any(), eq(job), isNull(), eq("janeiro.csv"));
+        verify(accountService).processImport(any(), eq(job), isNull(), eq("fevereiro.csv"));
+    }
+
+    @Test
+    void importStreamMarksJobAsFailedAndRethrows() {
+        doThrow(new ImportAccountException("falha no chunk", null)).when(accountService).processImport(any(), any());
+
+        assertThrows(ImportAccountException.class,
+                () -> importJobService.importStream(new ByteArrayInputStream("cabecalho\n".getBytes()), "contas.csv", ImportOptions.defaults()));
+    }
+
+    @Test
+    void getJobNotFound() {
+        assertThrows(ImportJobNotFoundException.class, () -> importJobService.getJob(UUID.randomUUID()));
+    }
+
+    private static byte[] gzip(String content) {
+        var bytes = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] zip(String... entryNames) {
+        var bytes = new ByteArrayOutputStream();
+        try (var zip = new ZipOutputStream(bytes)) {
+            for (String entryName : entryNames) {
+                zip.putNextEntry(new ZipEntry(entryName));
+                zip.write("cabecalho\n".getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,76 @@
+package com.lyncas.contas.contaspagar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.lyncas.contas.contaspagar.domain.enums.ImportEngineEnum;
+import com.lyncas.contas.contaspagar.exception.SituacaoException;
+import com.lyncas.contas.contaspagar.infrastructure.config.ImportProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ImportPipelineTest {
+
+    private ExecutorService executorService;
+    private TaskExecutor taskExecutor;
+    private ImportThrottle importThrottle;
+    private ImportJob job;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newCachedThreadPool();
+        taskExecutor = executorService::execute;
+        importThrottle = new ImportThrottle(new ImportProperties.Adaptive(), () -> 0, 50);
+        job = new ImportJob("contas.csv", ImportEngineEnum.JPA);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void runsEveryChunkThroughAllStages() throws InterruptedException {
+        var written = new AtomicInteger();
+        var pipeline = new ImportPipeline<Integer>(job, importThrottle,
+                rows -> new ChunkWrite(rows, rows, () -> written.addAndGet(rows)), 2, 3, 1);
+
+        pipeline.start(taskExecutor, taskExecutor);
+        for (int i = 0; i < 50; i++) {
+            pipeline.submit(10, 10);
+        }
+        pipeline.finish();
+
+        assertEquals(500, written.get());
+        assertEquals(500, job.getRowsPersisted());
+        assertEquals(3, job.getStages().size());
+        for (ImportStageMetrics stage : job.getStages()) {
+            assertEquals(50, stage.getChunks());
+            assertEquals(500, stage.getRows());
+            assertEquals(0, stage.getQueueDepth());
+        }
+    }
+
+    @Test
+    void parseFailureStopsReaderAndIsRethrown() {
+        var pipeline = new ImportPipeline<Integer>(job, importThrottle, rows -> {
+            throw new SituacaoException("Status inválido: ATRASADA");
+        }, 1, 1, 1);
+
+        pipeline.start(taskExecutor, taskExecutor);
+        var exception = assertThrows(SituacaoException.class, () -> {
+            for (int i = 0; i < 100; i++) {
+                pipeline.submit(1, 1);
+            }
+            pipeline.finish();
+        });
+
+        assertEquals("Status inválido: ATRASADA", exception.getMessage());
+        assertEquals(0, job.getRowsPersisted());
+    }
+}
@@ -0,0 +1,100 @@
+package com.lyncas.contas.contaspagar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.lyncas.contas.contaspagar.infrastructure.config.ImportProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ImportThrottleTest {
+
+    private ImportProperties.Adaptive config;
+    private AtomicInteger threadsAwaitingConnection;
+
+    @BeforeEach
+    void setUp() {
+        config = new ImportProperties.Adaptive();
+        config.setMinConcurrentChunks(1);
+        config.setInitialConcurrentChunks(4);
+        config.setMaxConcurrentChunks(16);
+        config.setReservedConnections(20);
+        config.setMinChunkSize(500);
+        config.setInitialChunkSize(5000);
+        config.setMaxChunkSize(20_000);
+        config.setTargetCommitMillis(500);
+        threadsAwaitingConnection = new AtomicInteger();
+    }
+
+    @Test
+    void ceilingLeavesReservedConnectionsForApi() {
+        var throttle = new ImportThrottle(config, threadsAwaitingConnection::get, 24);
+
+        for (int i = 0; i < 100; i++) {
+            throttle.onChunkCommitted(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        assertEquals(4, throttle.getConcurrencyLimit());
+    }
+
+    @Test
+    void increasesAdditivelyWhileCommitsAreFast() {
+        var throttle = new ImportThrottle(config, threadsAwaitingConnection::get, 50);
+
+        for (int i = 0; i < 4; i++) {
+            throttle.onChunkCommitted(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+
+        assertEquals(5, throttle.getConcurrencyLimit());
+        assertEquals(5500, throttle.chunkSize());
+    }
+
+    @Test
+    void halvesOnSlowCommitOncePerInterval() {
+        var throttle = new ImportThrottle(config, threadsAwaitingConnection::get, 50);
+
+        throttle.onChunkCommitted(TimeUnit.MILLISECONDS.toNanos(2000));
+        throttle.onChunkCommitted(TimeUnit.MILLISECONDS.toNanos(2000));
+
+        assertEquals(2, throttle.getConcurrencyLimit());
+        assertEquals(2500, throttle.chunkSize());
+    }
+
+    @Test
+    void backsOffConcurrencyWhenPoolHasWaiters() {
+        var throttle = new ImportThrottle(config, threadsAwaitingConnection::get, 50);
+        threadsAwaitingConnection.set(3);
+
+        throttle.onChunkCommitted(TimeUnit.MILLISECONDS.toNanos(50));
+
+        assertEquals(2, throttle.getConcurrencyLimit());
+        assertEquals(5000, throttle.chunkSize());
+    }
+
+    @Test
+    void acquireBlocksAtLimit() throws InterruptedException {
+        config.setInitialConcurrentChunks(1);
+        var throttle = new ImportThrottle(config, threadsAwaitingConnection::get, 50);
+        throttle.acquire();
+
+        var acquired = new AtomicInteger();
+        var waiter = new Thread(() -> {
+            try {
+                throttle.acquire();
+                acquired.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+        waiter.join(200);
+        assertEquals(0, acquired.get());
+
+        throttle.release();
+        waiter.join(1000);
+        assertEquals(1, acquired.get());
+        assertEquals(1, throttle.getInFlight());
+    }
+}
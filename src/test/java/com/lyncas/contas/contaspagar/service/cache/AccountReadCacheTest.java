@@ -0,0 +1,72 @@
+package com.lyncas.contas.contaspagar.service.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.lyncas.contas.contaspagar.infrastructure.config.AccountCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+class AccountReadCacheTest {
+
+    private static final LocalDate JANUARY_START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate MARCH_END = LocalDate.of(2025, 3, 31);
+
+    private AccountReadCache accountReadCache;
+
+    @BeforeEach
+    void setUp() {
+        accountReadCache = new AccountReadCache(new AccountCacheProperties());
+    }
+
+    @Test
+    void writeInvalidatesOnlyRangesContainingItsDates() {
+        long firstQuarter = accountReadCache.version(JANUARY_START, MARCH_END);
+        long april = accountReadCache.version(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30));
+
+        accountReadCache.invalidate(LocalDate.of(2025, 2, 14), null);
+
+        assertNotEquals(firstQuarter, accountReadCache.version(JANUARY_START, MARCH_END));
+        assertEquals(april, accountReadCache.version(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30)));
+    }
+
+    @Test
+    void invalidateAllChangesEveryRange() {
+        long firstQuarter = accountReadCache.version(JANUARY_START, MARCH_END);
+        long unbounded = accountReadCache.version(LocalDate.MIN, LocalDate.MAX);
+
+        accountReadCache.invalidateAll();
+
+        assertNotEquals(firstQuarter, accountReadCache.version(JANUARY_START, MARCH_END));
+        assertNotEquals(unbounded, accountReadCache.version(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    void longRangesAreInvalidatedByAnyWrite() {
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        LocalDate end = LocalDate.of(2025, 12, 31);
+        long version = accountReadCache.version(start, end);
+
+        accountReadCache.invalidate(LocalDate.of(2031, 6, 1));
+
+        assertNotEquals(version, accountReadCache.version(start, end));
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        var properties = new AccountCacheProperties();
+        properties.setEnabled(false);
+        var disabled = new AccountReadCache(properties);
+        int[] loads = {0};
+
+        disabled.totalPaid(JANUARY_START, MARCH_END, () -> null);
+        disabled.totalPaid(JANUARY_START, MARCH_END, () -> {
+            loads[0]++;
+            return null;
+        });
+
+        assertEquals(1, loads[0]);
+        assertEquals(0, disabled.stats().get(0).getMisses());
+    }
+}
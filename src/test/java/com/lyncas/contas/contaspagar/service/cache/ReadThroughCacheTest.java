@@ -0,0 +1,84 @@
+package com.lyncas.contas.contaspagar.service.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ReadThroughCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void servesLoadedValueWhileVersionMatches() {
+        var cache = new ReadThroughCache<String, Integer>("teste", 10, TimeUnit.SECONDS.toNanos(30), clock::get);
+
+        assertEquals(1, cache.get("a", 0, loads::incrementAndGet));
+        assertEquals(1, cache.get("a", 0, loads::incrementAndGet));
+        assertEquals(2, cache.get("a", 1, loads::incrementAndGet));
+
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.getEvictions());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void cachesNullValues() {
+        var cache = new ReadThroughCache<String, Integer>("teste", 10, TimeUnit.SECONDS.toNanos(30), clock::get);
+
+        assertNull(cache.get("a", 0, () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.get("a", 0, loads::incrementAndGet));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxEntries() {
+        var cache = new ReadThroughCache<String, Integer>("teste", 2, TimeUnit.SECONDS.toNanos(30), clock::get);
+
+        cache.get("a", 0, () -> 1);
+        cache.get("b", 0, () -> 2);
+        cache.get("a", 0, () -> 1);
+        cache.get("c", 0, () -> 3);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(1, cache.get("a", 0, () -> 10));
+        assertEquals(20, cache.get("b", 0, () -> 20));
+    }
+
+    @Test
+    void doesNotKeepValueLoadedWhileKeyWasInvalidated() {
+        var cache = new ReadThroughCache<String, Integer>("teste", 10, TimeUnit.SECONDS.toNanos(30), clock::get);
+
+        assertEquals(1, cache.get("a", 0, () -> {
+            cache.invalidate("a");
+            return loads.incrementAndGet();
+        }));
+        assertEquals(2, cache.get("a", 0, loads::incrementAndGet));
+        cache.invalidate("a");
+        assertEquals(3, cache.get("a", 0, loads::incrementAndGet));
+
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getEvictions());
+    }
+
+    @Test
+    void expiresAfterTtl() {
+        var cache = new ReadThroughCache<String, Integer>("teste", 10, TimeUnit.SECONDS.toNanos(30), clock::get);
+
+        cache.get("a", 0, loads::incrementAndGet);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        assertEquals(2, cache.get("a", 0, loads::incrementAndGet));
+        assertEquals(1, cache.getEvictions());
+    }
+}
@@ -0,0 +1,109 @@
+package com.lyncas.contas.contaspagar.service.csv;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.exception.AccountCsvParseException;
+import com.lyncas.contas.contaspagar.exception.SituacaoException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+class AccountCsvParserTest {
+
+    private AccountCsvRow row;
+
+    @BeforeEach
+    void setUp() {
+        row = new AccountCsvRow();
+    }
+
+    @Test
+    void parseLineWithAllFields() {
+        AccountCsvParser.parse("2025-01-15,2024-02-29,811.43,Serviço,PENDENTE", row);
+
+        assertEquals(LocalDate.of(2025, 1, 15), row.getDataVencimento());
+        assertEquals(LocalDate.of(2024, 2, 29), row.getDataPagamento());
+        assertEquals(new BigDecimal("811.43"), row.getValor());
+        assertEquals("Serviço", row.getDescricao());
+        assertEquals(AccountStatusEnum.PENDENTE, row.getSituacao());
+    }
+
+    @Test
+    void parseLineWithoutDataPagamentoAndShortScale() {
+        AccountCsvParser.parse("2025-01-09,,206.9,Parcela,cancelada\r", row);
+
+        assertNull(row.getDataPagamento());
+        assertEquals(new BigDecimal("206.90"), row.getValor());
+        assertEquals(AccountStatusEnum.CANCELADA, row.getSituacao());
+    }
+
+    @Test
+    void parseQuotedDescricaoWithCommaAndEscapedQuotes() {
+        AccountCsvParser.parse("2025-01-09,,10,\"Aluguel, sala \"\"B\"\"\",PAGA", row);
+
+        assertEquals("Aluguel, sala \"B\"", row.getDescricao());
+        assertEquals(row.getDescricao().hashCode(), row.descricaoHashCode());
+        assertEquals(new BigDecimal("10.00"), row.getValor());
+        assertEquals(AccountStatusEnum.PAGA, row.getSituacao());
+    }
+
+    @Test
+    void reuseRowAcrossLines() {
+        AccountCsvParser.parse("2025-01-09,2025-01-10,1.00,Primeira,PAGA", row);
+        AccountCsvParser.parse("2025-01-09,,2.00,Segunda,PENDENTE", row);
+
+        assertNull(row.getDataPagamento());
+        assertEquals("Segunda", row.getDescricao());
+    }
+
+    @Test
+    void rejectInvalidSituacao() {
+        assertThrows(SituacaoException.class,
+                () -> AccountCsvParser.parse("2025-01-09,,10.00,Parcela,ATRASADA", row));
+    }
+
+    @Test
+    void rejectMalformedDates() {
+        assertThrows(AccountCsvParseException.class,
+                () -> AccountCsvParser.parse("2025-02-30,,10.00,Parcela,PAGA", row));
+        assertThrows(AccountCsvParseException.class,
+                () -> AccountCsvParser.parse("09/01/2025,,10.00,Parcela,PAGA", row));
+        assertThrows(AccountCsvParseException.class,
+                () -> AccountCsvParser.parse("2025-01-09,2025-1-10,10.00,Parcela,PAGA", row));
+        assertThrows(AccountCsvParseException.class,
+                () -> AccountCsvParser.parse("0000-01-09,,10.00,Parcela,PAGA", row));
+    }
+
+    @Test
+    void rejectInvalidValor() {
+        assertThrows(AccountCsvParseException.class,
+                () -> AccountCsvParser.parse("2025-01-09,,10.001,Parcela,PAGA", row));
+        assertThrows(AccountCsvParseException.class,
+                () -> AccountCsvParser.parse("2025-01-09,,1e3,Parcela,PAGA", row));
+        assertThrows(AccountCsvParseException.class,
+                () -> AccountCsvParser.parse("2025-01-09,,,Parcela,PAGA", row));
+    }
+
+    @Test
+    void rejectMissingAndExtraFields() {
+        assertThrows(AccountCsvParseException.class,
+                () -> AccountCsvParser.parse("2025-01-09,,10.00,Parcela", row));
+        assertThrows(AccountCsvParseException.class,
+                () -> AccountCsvParser.parse("2025-01-09,,10.00,Parcela,PAGA,extra", row));
+        assertThrows(AccountCsvParseException.class,
+                () -> AccountCsvParser.parse("2025-01-09,,10.00,\"Parcela,PAGA", row));
+    }
+
+    @Test
+    void encodeCopyRowKeepingQuotesEscaped() {
+        AccountCsvParser.parse("2025-01-09,,-5.5,\"Taxa \"\"extra\"\"\",PAGA", row);
+        var out = new StringBuilder();
+
+        AccountCopyEncoder.appendRow(out, 7L, row, "2025-01-09T10:00");
+
+        assertEquals("7,2025-01-09,,-5.50,\"Taxa \"\"extra\"\"\",PAGA,2025-01-09T10:00,2025-01-09T10:00\n", out.toString());
+    }
+}
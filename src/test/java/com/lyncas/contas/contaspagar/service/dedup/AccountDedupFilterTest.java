@@ -0,0 +1,61 @@
+package com.lyncas.contas.contaspagar.service.dedup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.lyncas.contas.contaspagar.domain.enums.AccountStatusEnum;
+import com.lyncas.contas.contaspagar.domain.model.AccountNaturalKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+class AccountDedupFilterTest {
+
+    private AccountDedupFilter filter;
+    private List<LocalDate[]> loadedRanges;
+
+    @BeforeEach
+    void setUp() {
+        filter = new AccountDedupFilter(new BloomFilter(1_000, 0.01), LocalDateTime.now());
+        loadedRanges = new ArrayList<>();
+    }
+
+    @Test
+    void loadsEachDateRangeOnlyOnce() {
+        long day = LocalDate.of(2025, 1, 10).toEpochDay();
+
+        filter.ensureLoaded(day, day + 5, this::recordRange);
+        filter.ensureLoaded(day + 1, day + 3, this::recordRange);
+        filter.ensureLoaded(day - 2, day + 7, this::recordRange);
+
+        assertEquals(3, loadedRanges.size());
+        assertEquals(LocalDate.of(2025, 1, 8), loadedRanges.get(1)[0]);
+        assertEquals(LocalDate.of(2025, 1, 9), loadedRanges.get(1)[1]);
+        assertEquals(LocalDate.of(2025, 1, 16), loadedRanges.get(2)[0]);
+        assertEquals(LocalDate.of(2025, 1, 17), loadedRanges.get(2)[1]);
+    }
+
+    @Test
+    void containsLoadedKeys() {
+        var existing = new AccountNaturalKey(LocalDate.of(2025, 1, 10).toEpochDay(), 10_050, "Aluguel", AccountStatusEnum.PAGA);
+        var other = new AccountNaturalKey(LocalDate.of(2025, 1, 10).toEpochDay(), 10_050, "Aluguel", AccountStatusEnum.PENDENTE);
+
+        filter.ensureLoaded(existing.dataVencimentoEpochDay(), existing.dataVencimentoEpochDay(), (start, end, createdBefore, hashes) -> {
+            hashes.accept(existing.hash64());
+            return 1;
+        });
+
+        assertTrue(filter.mightContain(existing.hash64()));
+        assertFalse(filter.mightContain(other.hash64()));
+        assertEquals(1, filter.getKeysLoaded());
+    }
+
+    private long recordRange(LocalDate start, LocalDate end, LocalDateTime createdBefore, LongConsumer hashes) {
+        loadedRanges.add(new LocalDate[]{start, end});
+        return 0;
+    }
+}